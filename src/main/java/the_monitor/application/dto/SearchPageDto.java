@@ -0,0 +1,29 @@
+package the_monitor.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 검색 공급자 결과 한 페이지, itemCount는 필터링 전 공급자가 반환한 항목 수
+@Getter
+@NoArgsConstructor
+public class SearchPageDto {
+
+    private List<ArticleGoogleDto> articles;
+    private int totalResults;
+    private int itemCount;
+
+    @Builder
+    public SearchPageDto(List<ArticleGoogleDto> articles,
+                         int totalResults,
+                         int itemCount) {
+
+        this.articles = articles;
+        this.totalResults = totalResults;
+        this.itemCount = itemCount;
+
+    }
+
+}
@@ -0,0 +1,23 @@
+package the_monitor.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 제목/본문에는 {{clientName}}, {{reportTitle}}, {{recipientEmail}}을 넣어 수신자별로 치환할 수 있음
+@Getter
+@NoArgsConstructor
+public class ReportDistributionRequest {
+
+    @NotEmpty(message = "발송할 보고서를 선택해주세요.")
+    private List<Long> reportIds;
+
+    @NotBlank(message = "메일 제목은 필수입니다.")
+    private String subject;
+
+    private String content;
+
+}
@@ -1,10 +1,12 @@
 package the_monitor.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import the_monitor.application.dto.ArticleGoogleDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
@@ -15,15 +17,44 @@ public class ArticleResponse {
     private int totalResults;
     private String keyword;
 
+    // 검색 시 Google이 실제로 반환한 항목 수 (필터링 전), 다음 수집의 페이지 수 산정에 사용
+    @JsonIgnore
+    private int fetchedResults;
+
+    // 실패해서 결과에 빠진 검색 공급자, 비어 있지 않으면 일부 공급자 결과만 있음
+    @JsonIgnore
+    private List<String> failedProviders;
+
+    // 페이지 한도 때문에 워터마크까지 조회하지 못했을 때 가져온 가장 오래된 발행 시각
+    // [워터마크, completeSince) 구간은 아직 조회하지 않았으므로 다음 재수집에서 이 구간만 조회, null이면 모두 조회함
+    @JsonIgnore
+    private LocalDateTime completeSince;
+
     @Builder
     public ArticleResponse(List<ArticleGoogleDto> googleArticles,
                            int totalResults,
-                           String keyword) {
+                           String keyword,
+                           int fetchedResults,
+                           List<String> failedProviders,
+                           LocalDateTime completeSince) {
 
         this.googleArticles = googleArticles;
         this.totalResults = totalResults;
         this.keyword = keyword;
+        this.fetchedResults = fetchedResults;
+        this.failedProviders = failedProviders != null ? failedProviders : List.of();
+        this.completeSince = completeSince;
+
+    }
+
+    @JsonIgnore
+    public boolean isPartial() {
+        return !failedProviders.isEmpty();
+    }
 
+    // 페이지 한도로 잘린 결과의 남은 구간 상한, 발행 시각을 알 수 없으면 더 나눌 수 없으므로 null(모두 조회한 것으로 처리)
+    public static LocalDateTime truncatedSince(LocalDateTime since, LocalDateTime oldestPublishedAt) {
+        return oldestPublishedAt != null && oldestPublishedAt.isAfter(since) ? oldestPublishedAt : null;
     }
 
 }
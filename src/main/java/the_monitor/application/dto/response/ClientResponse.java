@@ -17,17 +17,24 @@ public class ClientResponse {
     private String name;
     private String managerName;
     private String logoUrl;
+    private String logoThumbnailUrl; // 목록용 썸네일 (없으면 원본)
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long ingestionJobId;
 
     @Builder
     public ClientResponse(Long clientId,
                           String name,
                           String managerName,
-                          String logoUrl) {
+                          String logoUrl,
+                          String logoThumbnailUrl,
+                          Long ingestionJobId) {
 
         this.clientId = clientId;
         this.name = name;
         this.managerName = managerName;
         this.logoUrl = logoUrl;
+        this.logoThumbnailUrl = logoThumbnailUrl;
+        this.ingestionJobId = ingestionJobId;
     }
 }
\ No newline at end of file
@@ -12,11 +12,13 @@ public class EmailResponse {
     private List<String> recipients;
     private List<String> ccs;
     private String signatureImageUrl;
+    private String signatureEmailImageUrl; // 메일 서명 크기로 줄인 이미지 (없으면 원본)
 
     @Builder
-    public EmailResponse(List<String> recipients, List<String> ccs, String signatureImageUrl) {
+    public EmailResponse(List<String> recipients, List<String> ccs, String signatureImageUrl, String signatureEmailImageUrl) {
         this.recipients = recipients;
         this.ccs = ccs;
         this.signatureImageUrl = signatureImageUrl;
+        this.signatureEmailImageUrl = signatureEmailImageUrl;
     }
 }
\ No newline at end of file
@@ -3,17 +3,22 @@ package the_monitor.application.dto.response;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import the_monitor.domain.enums.MailStatus;
 
 import java.util.List;
 
 @Getter
 @NoArgsConstructor
 public class EmailSendResponse {
+    private Long mailId;            // 발송 상태 조회용 메일 id
+    private MailStatus status;      // 발송 상태
     private List<String> toEmails;  // 수신자 이메일 리스트
     private List<String> ccEmails; // 참조자 이메일 리스트
 
     @Builder
-    public EmailSendResponse(List<String> toEmails, List<String> ccEmails, String status) {
+    public EmailSendResponse(Long mailId, MailStatus status, List<String> toEmails, List<String> ccEmails) {
+        this.mailId = mailId;
+        this.status = status;
         this.toEmails = toEmails;
         this.ccEmails = ccEmails;
     }
@@ -0,0 +1,47 @@
+package the_monitor.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import the_monitor.domain.enums.IngestionJobStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class IngestionJobResponse {
+
+    private Long jobId;
+    private Long clientId;
+    private IngestionJobStatus status;
+    private int totalKeywords;
+    private int completedKeywords;
+    private int storedArticles;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public IngestionJobResponse(Long jobId,
+                                Long clientId,
+                                IngestionJobStatus status,
+                                int totalKeywords,
+                                int completedKeywords,
+                                int storedArticles,
+                                String errorMessage,
+                                LocalDateTime startedAt,
+                                LocalDateTime finishedAt) {
+
+        this.jobId = jobId;
+        this.clientId = clientId;
+        this.status = status;
+        this.totalKeywords = totalKeywords;
+        this.completedKeywords = completedKeywords;
+        this.storedArticles = storedArticles;
+        this.errorMessage = errorMessage;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+
+    }
+
+}
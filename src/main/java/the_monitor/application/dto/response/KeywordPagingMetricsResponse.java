@@ -0,0 +1,38 @@
+package the_monitor.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class KeywordPagingMetricsResponse {
+
+    private Long keywordId;
+    private String keyword;
+    private long searchCount;       // 키워드 검색 횟수
+    private long pagesRequested;    // 실제로 요청한 페이지 수
+    private long pagesSkipped;      // 조기 종료로 생략한 페이지 수
+    private long itemsFetched;      // Google이 반환한 전체 항목 수
+    private int lastItemsFetched;   // 마지막 검색에서 반환된 항목 수
+
+    @Builder
+    public KeywordPagingMetricsResponse(Long keywordId,
+                                        String keyword,
+                                        long searchCount,
+                                        long pagesRequested,
+                                        long pagesSkipped,
+                                        long itemsFetched,
+                                        int lastItemsFetched) {
+
+        this.keywordId = keywordId;
+        this.keyword = keyword;
+        this.searchCount = searchCount;
+        this.pagesRequested = pagesRequested;
+        this.pagesSkipped = pagesSkipped;
+        this.itemsFetched = itemsFetched;
+        this.lastItemsFetched = lastItemsFetched;
+
+    }
+
+}
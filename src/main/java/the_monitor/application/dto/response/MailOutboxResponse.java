@@ -0,0 +1,48 @@
+package the_monitor.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import the_monitor.domain.enums.MailStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class MailOutboxResponse {
+
+    private Long mailId;
+    private MailStatus status;
+    private Long reportId;
+    private List<String> toEmails;
+    private List<String> ccEmails;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime sentAt;
+
+    @Builder
+    public MailOutboxResponse(Long mailId,
+                              MailStatus status,
+                              Long reportId,
+                              List<String> toEmails,
+                              List<String> ccEmails,
+                              int attempts,
+                              String lastError,
+                              LocalDateTime nextAttemptAt,
+                              LocalDateTime sentAt) {
+
+        this.mailId = mailId;
+        this.status = status;
+        this.reportId = reportId;
+        this.toEmails = toEmails;
+        this.ccEmails = ccEmails;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.nextAttemptAt = nextAttemptAt;
+        this.sentAt = sentAt;
+
+    }
+
+}
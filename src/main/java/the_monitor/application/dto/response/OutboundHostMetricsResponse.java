@@ -0,0 +1,35 @@
+package the_monitor.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class OutboundHostMetricsResponse {
+
+    private String host;
+    private long requests;          // 전체 요청 수
+    private long errors;            // 4xx/5xx 응답 및 연결 오류 수
+    private int inFlight;           // 현재 응답 대기 중인 요청 수
+    private int maxInFlight;        // 최대 동시 요청 수
+    private long averageLatencyMs;  // 응답 헤더 수신까지 평균 시간
+
+    @Builder
+    public OutboundHostMetricsResponse(String host,
+                                       long requests,
+                                       long errors,
+                                       int inFlight,
+                                       int maxInFlight,
+                                       long averageLatencyMs) {
+
+        this.host = host;
+        this.requests = requests;
+        this.errors = errors;
+        this.inFlight = inFlight;
+        this.maxInFlight = maxInFlight;
+        this.averageLatencyMs = averageLatencyMs;
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package the_monitor.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ProviderMetricsResponse {
+
+    private String provider;
+    private String circuitState;        // CLOSED / OPEN / HALF_OPEN
+    private long calls;                 // 공급자 호출 수 (키워드 묶음 단위)
+    private long failures;              // 실패한 호출 수
+    private long averageLatencyMs;      // 호출당 평균 소요 시간
+    private long articlesReturned;      // 반환된 기사 수 (병합 전)
+    private long remainingDailyBudget;  // 마지막 호출 시점의 남은 일일 사용량, 제한이 없으면 -1
+
+    @Builder
+    public ProviderMetricsResponse(String provider,
+                                   String circuitState,
+                                   long calls,
+                                   long failures,
+                                   long averageLatencyMs,
+                                   long articlesReturned,
+                                   long remainingDailyBudget) {
+
+        this.provider = provider;
+        this.circuitState = circuitState;
+        this.calls = calls;
+        this.failures = failures;
+        this.averageLatencyMs = averageLatencyMs;
+        this.articlesReturned = articlesReturned;
+        this.remainingDailyBudget = remainingDailyBudget;
+
+    }
+
+}
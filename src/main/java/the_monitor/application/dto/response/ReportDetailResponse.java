@@ -18,6 +18,7 @@ public class ReportDetailResponse {
     private String title;
     private String color;
     private String logo;
+    private String headerLogo; // 보고서 상단 크기로 줄인 로고 (없으면 원본)
 
     @JsonProperty("articles")
     private List<ReportCategoryTypeResponse> reportCategoryTypeResponses;
@@ -26,11 +27,13 @@ public class ReportDetailResponse {
     public ReportDetailResponse(String title,
                                 String color,
                                 String logo,
+                                String headerLogo,
                                 List<ReportCategoryTypeResponse> reportCategoryTypeResponses) {
 
         this.title = title;
         this.color = color;
         this.logo = logo;
+        this.headerLogo = headerLogo;
         this.reportCategoryTypeResponses = reportCategoryTypeResponses;
 
     }
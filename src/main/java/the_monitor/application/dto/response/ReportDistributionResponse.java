@@ -0,0 +1,39 @@
+package the_monitor.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import the_monitor.domain.enums.MailStatus;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class ReportDistributionResponse {
+
+    private Long distributionId;
+    private int reportCount;
+    private int mailCount;
+    private List<Long> skippedReportIds;          // 수신자가 없어 발송하지 않은 보고서
+    private Map<MailStatus, Long> statusCounts;   // 상태별 메일 수
+    private List<MailOutboxResponse> mails;       // 수신자별 발송 상태
+
+    @Builder
+    public ReportDistributionResponse(Long distributionId,
+                                      int reportCount,
+                                      int mailCount,
+                                      List<Long> skippedReportIds,
+                                      Map<MailStatus, Long> statusCounts,
+                                      List<MailOutboxResponse> mails) {
+
+        this.distributionId = distributionId;
+        this.reportCount = reportCount;
+        this.mailCount = mailCount;
+        this.skippedReportIds = skippedReportIds;
+        this.statusCounts = statusCounts;
+        this.mails = mails;
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package the_monitor.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class SearchMetricsResponse {
+
+    private long totalPagesRequested;
+    private long totalPagesSkipped;
+    private long cacheHits;
+    private long redisCacheHits;
+    private long cacheMisses;
+    private double cacheHitRatio;
+    private List<KeywordPagingMetricsResponse> keywords;
+    private List<ProviderMetricsResponse> providers;
+    private List<OutboundHostMetricsResponse> outboundHosts;
+
+    @Builder
+    public SearchMetricsResponse(long totalPagesRequested,
+                                 long totalPagesSkipped,
+                                 long cacheHits,
+                                 long redisCacheHits,
+                                 long cacheMisses,
+                                 double cacheHitRatio,
+                                 List<KeywordPagingMetricsResponse> keywords,
+                                 List<ProviderMetricsResponse> providers,
+                                 List<OutboundHostMetricsResponse> outboundHosts) {
+
+        this.totalPagesRequested = totalPagesRequested;
+        this.totalPagesSkipped = totalPagesSkipped;
+        this.cacheHits = cacheHits;
+        this.redisCacheHits = redisCacheHits;
+        this.cacheMisses = cacheMisses;
+        this.cacheHitRatio = cacheHitRatio;
+        this.keywords = keywords;
+        this.providers = providers;
+        this.outboundHosts = outboundHosts;
+
+    }
+
+}
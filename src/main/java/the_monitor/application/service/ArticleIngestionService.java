@@ -0,0 +1,17 @@
+package the_monitor.application.service;
+
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.domain.model.Keyword;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArticleIngestionService {
+
+    // 전체 수집 결과 저장 (과거 수집량과 수집 시각 갱신)
+    int saveSearchResults(List<Keyword> keywords, List<ArticleResponse> articleResponses);
+
+    // 재수집 결과 저장 (수집 시각만 갱신)
+    int saveRecrawlResults(List<Keyword> keywords, List<ArticleResponse> articleResponses, LocalDateTime crawledAt);
+
+}
@@ -0,0 +1,18 @@
+package the_monitor.application.service;
+
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArticleSearchService {
+
+    // 활성화된 모든 공급자에서 동시에 검색 후 URL 기준으로 병합
+    List<ArticleResponse> search(List<Keyword> keywords, SearchPriority priority);
+
+    // until이 있으면 이전 재수집에서 페이지 한도로 조회하지 못한 [since, until] 구간만 조회
+    ArticleResponse searchSince(Keyword keyword, LocalDateTime since, LocalDateTime until, int maxPages, SearchPriority priority);
+
+}
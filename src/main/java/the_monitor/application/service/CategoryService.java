@@ -11,6 +11,9 @@ public interface CategoryService {
     // 카테고리 생성 및 키워드 저장
     void saveCategoryWithKeywords(CategoryType categoryType, List<String> keywords, Client client);
 
+    // 기존 카테고리(없으면 생성)에 키워드 추가
+    List<Keyword> addKeywords(CategoryType categoryType, List<String> keywords, Client client);
+
     // 키워드 생성
     List<Keyword> createKeywords(List<String> keywords, Category category);
 }
\ No newline at end of file
@@ -1,19 +1,18 @@
 package the_monitor.application.service;
 
 
-import jakarta.mail.MessagingException;
 import org.springframework.web.multipart.MultipartFile;
 import the_monitor.application.dto.request.EmailUpdateRequest;
 import the_monitor.application.dto.response.EmailResponse;
 import the_monitor.application.dto.response.EmailSendResponse;
 import the_monitor.domain.model.Client;
 
-import java.io.UnsupportedEncodingException;
 import java.util.List;
 
 public interface EmailService {
 
-    void sendEmail(String to, String subject, String text) throws MessagingException, UnsupportedEncodingException;
+    // 발송 대기열에 등록하고 메일 id 반환
+    Long sendEmail(String to, String subject, String text);
 
     void saveEmails(List<String> recipientEmails, List<String> ccEmails, Client client);
 
@@ -21,5 +20,5 @@ public interface EmailService {
 
     EmailResponse updateEmails(EmailUpdateRequest emailUpdateRequest, MultipartFile signatureImage);
 
-    EmailSendResponse sendReportEmailWithAttachment(Long reportId, String subject, String content) throws MessagingException, UnsupportedEncodingException;
+    EmailSendResponse sendReportEmailWithAttachment(Long reportId, String subject, String content);
 }
\ No newline at end of file
@@ -2,11 +2,12 @@ package the_monitor.application.service;
 
 import jakarta.servlet.http.HttpServletResponse;
 
-import java.io.File;
+import java.io.OutputStream;
 
 public interface ExcelService {
 
-    File createExcelFile(Long reportId);
+    // 임시 파일 없이 보고서 엑셀을 outputStream으로 바로 스트리밍
+    void writeExcel(Long reportId, OutputStream outputStream);
 
     void generateExcel(Long reportId, HttpServletResponse response);
 }
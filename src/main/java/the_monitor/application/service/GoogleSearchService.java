@@ -1,9 +1,19 @@
 package the_monitor.application.service;
 
 import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface GoogleSearchService {
 
-    ArticleResponse toDto(String keyword);
+    // since 이후(until이 있으면 until까지) 게시된 기사만 최신순으로 최대 maxPages 페이지 조회
+    ArticleResponse searchSince(Keyword keyword, LocalDateTime since, LocalDateTime until, int maxPages, SearchPriority priority);
+
+    List<ArticleResponse> toDtos(List<Keyword> keywords, SearchPriority priority);
+
+    long getRemainingDailyBudget();
 
 }
@@ -0,0 +1,12 @@
+package the_monitor.application.service;
+
+import the_monitor.application.dto.response.IngestionJobResponse;
+
+public interface IngestionJobService {
+
+    // 수집 작업 등록, 현재 트랜잭션 커밋 후 실행기에 제출
+    Long enqueue(Long clientId, Long accountId);
+
+    IngestionJobResponse getJob(Long jobId);
+
+}
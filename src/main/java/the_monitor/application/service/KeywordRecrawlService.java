@@ -0,0 +1,8 @@
+package the_monitor.application.service;
+
+public interface KeywordRecrawlService {
+
+    // 모든 키워드를 재수집 주기 안에 분산하여 재수집 예약
+    void scheduleRecrawl();
+
+}
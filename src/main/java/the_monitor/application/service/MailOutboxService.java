@@ -0,0 +1,20 @@
+package the_monitor.application.service;
+
+import the_monitor.application.dto.response.MailOutboxResponse;
+import the_monitor.domain.model.MailOutbox;
+
+import java.util.List;
+
+public interface MailOutboxService {
+
+    // 발송할 메일 등록, 현재 트랜잭션 커밋 후 작업 스레드에서 발송
+    Long enqueue(Long accountId, List<String> toEmails, List<String> ccEmails, String subject, String body, Long reportId);
+
+    // 일괄 발송용: 미리 만든 메일을 한 번에 등록
+    List<Long> enqueueAll(List<MailOutbox> mails);
+
+    MailOutboxResponse getMail(Long mailId);
+
+    List<MailOutboxResponse> getMailsByDistribution(Long distributionId);
+
+}
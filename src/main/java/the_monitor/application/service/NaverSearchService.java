@@ -1,12 +1,21 @@
-//package the_monitor.application.service;
-//
-//import the_monitor.application.dto.ArticleNaverDto;
-//import the_monitor.domain.model.Keyword;
-//
-//import java.util.List;
-//
-//public interface NaverSearchService {
-//
-//    List<ArticleNaverDto> toDto(Keyword keyword);
-//
-//}
+package the_monitor.application.service;
+
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NaverSearchService {
+
+    // 클라이언트 ID/Secret이 설정되어 있는지 여부
+    boolean isConfigured();
+
+    List<ArticleResponse> toDtos(List<Keyword> keywords, SearchPriority priority);
+
+    ArticleResponse searchSince(String keyword, LocalDateTime since, LocalDateTime until, int maxPages, SearchPriority priority);
+
+    long getRemainingDailyBudget();
+
+}
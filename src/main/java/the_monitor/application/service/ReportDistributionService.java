@@ -0,0 +1,13 @@
+package the_monitor.application.service;
+
+import the_monitor.application.dto.request.ReportDistributionRequest;
+import the_monitor.application.dto.response.ReportDistributionResponse;
+
+public interface ReportDistributionService {
+
+    // 여러 보고서를 각 고객사 수신자에게 수신자별 메일로 일괄 발송 등록
+    ReportDistributionResponse distributeReports(ReportDistributionRequest request);
+
+    ReportDistributionResponse getDistribution(Long distributionId);
+
+}
@@ -1,49 +1,128 @@
 package the_monitor.application.service;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.*;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import the_monitor.common.ApiException;
 import the_monitor.common.ErrorStatus;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @Service
 public class S3Service {
 
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
-    public S3Service(AmazonS3 amazonS3) {
+    @Value("${cloud.aws.s3.multipart-threshold-bytes:16777216}")
+    private long multipartThreshold;
+
+    public S3Service(AmazonS3 amazonS3, TransferManager transferManager) {
         this.amazonS3 = amazonS3;
+        this.transferManager = transferManager;
     }
 
+    // 업로드 파일을 힙 복사나 로컬 파일 없이 S3로 바로 스트리밍
     public String uploadFile(MultipartFile file) {
 
-        try {
-            String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-            File uploadFile = convertMultiPartToFile(file);
+        String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
 
-            amazonS3.putObject(new PutObjectRequest(bucketName, fileName, uploadFile));
+        try (InputStream inputStream = file.getInputStream()) {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(file.getSize()); // 길이를 알려야 SDK가 스트림 전체를 메모리에 버퍼링하지 않음
+            metadata.setContentType(file.getContentType());
 
-            String fileUrl = amazonS3.getUrl(bucketName, fileName).toString();
-            uploadFile.delete();  // 로컬 임시 파일 삭제
-            return fileUrl;
-        } catch (Exception e) {
+            putObject(fileName, inputStream, metadata);
+
+            return amazonS3.getUrl(bucketName, fileName).toString();
+        } catch (IOException | AmazonClientException e) {
+            throw new ApiException(ErrorStatus._FILE_UPLOAD_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorStatus._FILE_UPLOAD_FAILED);
+        }
+
+    }
+
+    // 내용 주소 키로 업로드, 같은 키는 같은 내용이므로 덮어써도 안전
+    // 참조가 모두 해제된 객체는 삭제 대기 중일 수 있어 존재 여부(HEAD)로 PUT을 생략하지 않음
+    public String uploadFile(String key, MultipartFile file) {
+
+        try (InputStream inputStream = file.getInputStream()) {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(file.getSize());
+            metadata.setContentType(file.getContentType());
+            metadata.setCacheControl(IMMUTABLE_CACHE_CONTROL); // 키가 내용 해시라 같은 키의 내용은 바뀌지 않음
+
+            putObject(key, inputStream, metadata);
+
+            return amazonS3.getUrl(bucketName, key).toString();
+        } catch (IOException | AmazonClientException e) {
+            throw new ApiException(ErrorStatus._FILE_UPLOAD_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorStatus._FILE_UPLOAD_FAILED);
+        }
+
+    }
+
+    // 서버에서 만든 작은 이미지(표준 크기 변환본) 업로드
+    public String uploadBytes(String key, byte[] bytes, String contentType) {
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType(contentType);
+        metadata.setCacheControl(IMMUTABLE_CACHE_CONTROL);
+
+        try {
+            amazonS3.putObject(new PutObjectRequest(bucketName, key, new ByteArrayInputStream(bytes), metadata));
+            return amazonS3.getUrl(bucketName, key).toString();
+        } catch (AmazonClientException e) {
             throw new ApiException(ErrorStatus._FILE_UPLOAD_FAILED);
         }
 
     }
 
+    // 임시 파일 없이 객체 내용을 스트림으로 읽기 (호출한 쪽에서 닫아야 함)
+    public InputStream openFile(String fileKey) {
+        try {
+            return amazonS3.getObject(bucketName, fileKey).getObjectContent();
+        } catch (AmazonClientException e) {
+            throw new ApiException(ErrorStatus._FILE_DOWNLOAD_FAILED);
+        }
+    }
+
+    public String getFileUrl(String fileKey) {
+        return amazonS3.getUrl(bucketName, fileKey).toString();
+    }
+
+    // 커밋 이후 정리용 삭제라 실패해도 예외를 던지지 않음
+    public void deleteFileQuietly(String fileKey) {
+        try {
+            amazonS3.deleteObject(bucketName, fileKey);
+        } catch (AmazonClientException e) {
+            log.warn("S3 객체 삭제 실패: key={}", fileKey, e);
+        }
+    }
+
     public String updateFile(String existingFileKey, MultipartFile newFile) {
 
         deleteFile(existingFileKey);
@@ -137,12 +216,17 @@ public class S3Service {
         }
     }
 
-    private File convertMultiPartToFile(MultipartFile file) throws IOException {
-        File convertedFile = new File(file.getOriginalFilename());
-        try (FileOutputStream fos = new FileOutputStream(convertedFile)) {
-            fos.write(file.getBytes());
+    // 큰 파일은 TransferManager 멀티파트 업로드, 나머지는 단일 PUT
+    private void putObject(String key, InputStream inputStream, ObjectMetadata metadata) throws InterruptedException {
+
+        PutObjectRequest request = new PutObjectRequest(bucketName, key, inputStream, metadata);
+
+        if (metadata.getContentLength() >= multipartThreshold) {
+            transferManager.upload(request).waitForCompletion();
+        } else {
+            amazonS3.putObject(request);
         }
-        return convertedFile;
+
     }
 
     private void deleteFile(String fileKey) {
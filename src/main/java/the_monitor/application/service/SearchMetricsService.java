@@ -0,0 +1,20 @@
+package the_monitor.application.service;
+
+import the_monitor.application.dto.response.SearchMetricsResponse;
+
+public interface SearchMetricsService {
+
+    void recordPaging(Long keywordId, int pagesRequested, int pagesSkipped, int itemsFetched);
+
+    void recordCacheHit();
+
+    void recordRedisCacheHit();
+
+    void recordCacheMiss();
+
+    void recordProviderCall(String provider, long latencyNanos, boolean success, int articlesReturned, long remainingDailyBudget);
+
+    // 호출한 계정이 선택한 고객사의 키워드 지표만 반환
+    SearchMetricsResponse getSearchMetrics();
+
+}
@@ -0,0 +1,26 @@
+package the_monitor.application.service;
+
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 기사 검색 공급자 (Google, Naver 등), 활성화된 공급자는 ArticleSearchService가 동시에 호출
+public interface SearchProvider {
+
+    String getName();
+
+    boolean isEnabled();
+
+    // 키워드 순서대로 검색 결과 반환
+    List<ArticleResponse> search(List<Keyword> keywords, SearchPriority priority);
+
+    // since 이후(until이 있으면 until까지) 게시된 기사만 최신순으로 조회
+    ArticleResponse searchSince(Keyword keyword, LocalDateTime since, LocalDateTime until, int maxPages, SearchPriority priority);
+
+    // 오늘 남은 API 사용량, 제한이 없으면 -1
+    long getRemainingDailyBudget();
+
+}
@@ -0,0 +1,29 @@
+package the_monitor.application.service;
+
+import org.springframework.web.multipart.MultipartFile;
+import the_monitor.domain.enums.ImageVariant;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface StoredFileService {
+
+    // 내용 해시 기준으로 저장(이미 있으면 업로드 생략)하고 참조 수 증가, URL 반환
+    String store(MultipartFile file);
+
+    // 이미 저장된 URL을 새로 참조할 때 참조 수 증가 (관리 대상이 아닌 URL은 무시)
+    void retain(String url);
+
+    // 참조 해제, 참조 수가 0이 되면 정리 대상으로 표시 (관리 대상이 아닌 URL은 무시)
+    void release(String url);
+
+    // 참조 수가 0인 채로 유예 기간이 지난 파일의 S3 객체와 행 삭제
+    void sweepReleasedFiles();
+
+    // 표준 크기 변환본 URL, 아직 없으면 원본 URL
+    String getVariantUrl(String url, ImageVariant variant);
+
+    // 목록 화면용: 원본 URL -> 변환본(없으면 원본) URL 을 한 번에 조회
+    Map<String, String> getVariantUrls(Collection<String> urls, ImageVariant variant);
+
+}
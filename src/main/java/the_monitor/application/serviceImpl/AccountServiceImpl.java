@@ -48,6 +48,7 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
+    @Transactional
     public String sendEmailConfirm(AccountEmailRequest request) {
 
         String email = request.getEmail();
@@ -67,7 +68,7 @@ public class AccountServiceImpl implements AccountService {
 
         try {
             emailService.sendEmail(email, "The Monitor 회원가입 인증 메일입니다.", emailContent);
-            log.info("이메일 전송 성공: {}", email);
+            log.info("인증 메일 발송 등록: {}", email);
             certifiedKeyService.saveCertifiedKey(email, certifiedKey);
         } catch (Exception e) {
             log.error("이메일 전송 중 오류 발생: {}", e.getMessage(), e);
@@ -197,7 +198,7 @@ public class AccountServiceImpl implements AccountService {
 
         try {
             emailService.sendEmail(email, "The Monitor 비밀번호 재설정 요청", emailContent);
-            log.info("임시 비밀번호 이메일 전송 성공: {}", email);
+            log.info("임시 비밀번호 메일 발송 등록: {}", email);
             log.info("임시 비밀번호: {}", account.getPassword());
         } catch (Exception e) {
             log.error("임시 비밀번호 이메일 전송 중 오류 발생: {}", e.getMessage(), e);
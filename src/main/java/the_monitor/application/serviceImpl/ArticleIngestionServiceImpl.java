@@ -0,0 +1,135 @@
+package the_monitor.application.serviceImpl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.application.service.ArticleIngestionService;
+import the_monitor.domain.model.Article;
+import the_monitor.domain.model.Keyword;
+import the_monitor.infrastructure.persistence.JdbcArticleRepository;
+import the_monitor.infrastructure.utils.LongBloomFilter;
+import the_monitor.infrastructure.utils.PublishDateParser;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ArticleIngestionServiceImpl implements ArticleIngestionService {
+
+    private final JdbcArticleRepository jdbcArticleRepository;
+
+    @Value("${article.dedup.bloom-expected-insertions:1000000}")
+    private long bloomExpectedInsertions;
+
+    @Value("${article.dedup.bloom-false-positive-rate:0.01}")
+    private double bloomFalsePositiveRate;
+
+    // 이번 프로세스에서 저장한 (keyword, URL) 조합, DB 조회 전 사전 필터로 사용
+    private LongBloomFilter knownUrls;
+
+    @PostConstruct
+    void initBloomFilter() {
+        this.knownUrls = new LongBloomFilter(bloomExpectedInsertions, bloomFalsePositiveRate);
+    }
+
+    // 검색 결과를 중복 제거 후 저장하고, 새로 저장된 기사 수를 반환
+    @Override
+    public int saveSearchResults(List<Keyword> keywords, List<ArticleResponse> articleResponses) {
+
+        LocalDateTime crawledAt = PublishDateParser.now();
+        for (int i = 0; i < keywords.size(); i++) {
+            // 일부 공급자가 실패한 결과는 기사만 저장하고 수집량/수집 시각은 그대로 두어 다음 수집에서 다시 조회
+            if (articleResponses.get(i).isPartial()) {
+                continue;
+            }
+            // 다음 수집 시 요청할 페이지 수 산정을 위한 수집량 기록
+            keywords.get(i).updateResultCount(articleResponses.get(i).getFetchedResults());
+            keywords.get(i).updateLastCrawledAt(crawledAt);
+        }
+
+        return saveNewArticles(keywords, articleResponses);
+
+    }
+
+    // 재수집 결과 저장, 기간 제한 검색의 수집량은 전체 수집 페이지 산정에 쓰지 않음
+    @Override
+    public int saveRecrawlResults(List<Keyword> keywords, List<ArticleResponse> articleResponses, LocalDateTime crawledAt) {
+
+        // 일부 공급자가 실패했으면 그 공급자의 기사를 놓치지 않도록 워터마크를 옮기지 않음
+        // 페이지 한도로 잘렸으면 워터마크는 두고 조회하지 못한 [워터마크, 가장 오래된 기사] 구간을 다음 재수집에서 조회
+        for (int i = 0; i < keywords.size(); i++) {
+            Keyword keyword = keywords.get(i);
+            ArticleResponse articleResponse = articleResponses.get(i);
+            if (articleResponse.isPartial()) {
+                continue;
+            }
+
+            LocalDateTime remainingUntil = articleResponse.getCompleteSince();
+            if (remainingUntil == null) {
+                keyword.completeRecrawl(crawledAt);
+            } else if (keyword.getRecrawlUntil() != null && !remainingUntil.isBefore(keyword.getRecrawlUntil())) {
+                // 남은 구간을 다시 조회해도 더 내려가지 못함 (한 기간에 결과가 한도보다 많음), 놓친 기사는 포기하고 진행
+                log.warn("재수집 남은 구간을 더 조회할 수 없어 워터마크 이동. keywordId={}, until={}", keyword.getId(), remainingUntil);
+                keyword.completeRecrawl(crawledAt);
+            } else {
+                keyword.deferRecrawl(remainingUntil, crawledAt);
+            }
+        }
+
+        return saveNewArticles(keywords, articleResponses);
+
+    }
+
+    private int saveNewArticles(List<Keyword> keywords, List<ArticleResponse> articleResponses) {
+
+        // Step 1: 페이지/키워드 간 중복을 메모리에서 제거
+        Map<Long, Article> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < keywords.size(); i++) {
+            Keyword keyword = keywords.get(i);
+            ArticleResponse articleResponse = articleResponses.get(i);
+
+            articleResponse.getGoogleArticles().stream()
+                    .map(dto -> dto.toEntity(keyword))
+                    .filter(article -> article.getUrlHash() != null)
+                    .forEach(article -> candidates.putIfAbsent(bloomKey(keyword.getId(), article.getUrlHash()), article));
+        }
+
+        // Step 2: Bloom filter가 "있을 수도 있음"이라고 한 기사만 DB에서 확인
+        List<Article> maybeKnown = candidates.entrySet().stream()
+                .filter(entry -> knownUrls.mightContain(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+
+        Map<Long, Set<Long>> existing = jdbcArticleRepository.findExistingUrlHashes(
+                maybeKnown.stream().map(article -> article.getKeyword().getId()).distinct().toList(),
+                maybeKnown.stream().map(Article::getUrlHash).distinct().toList());
+
+        List<Article> newArticles = candidates.values().stream()
+                .filter(article -> !existing.getOrDefault(article.getKeyword().getId(), Set.of()).contains(article.getUrlHash()))
+                .toList();
+
+        // Step 3: 남은 기사 upsert (Bloom filter가 비어 있는 재시작 직후에도 유니크 인덱스가 중복을 막음)
+        // 이미 있던 기사는 내용만 갱신되므로 실제로 INSERT된 행만 새 기사로 집계
+        int inserted = jdbcArticleRepository.upsertAll(newArticles);
+
+        candidates.keySet().forEach(knownUrls::put);
+
+        log.info("기사 저장: 후보 {}건, 기존 {}건 제외, 갱신 {}건, 저장 {}건",
+                candidates.size(), candidates.size() - newArticles.size(), newArticles.size() - inserted, inserted);
+
+        return inserted;
+
+    }
+
+    private long bloomKey(Long keywordId, Long urlHash) {
+        return urlHash ^ (keywordId * 0x9E3779B97F4A7C15L);
+    }
+
+}
@@ -0,0 +1,185 @@
+package the_monitor.application.serviceImpl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import the_monitor.application.dto.ArticleGoogleDto;
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.application.service.ArticleSearchService;
+import the_monitor.application.service.SearchMetricsService;
+import the_monitor.application.service.SearchProvider;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+import the_monitor.infrastructure.search.GoogleSearchProvider;
+import the_monitor.infrastructure.utils.UrlHashUtil;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleSearchServiceImpl implements ArticleSearchService {
+
+    // @Order 순서, 첫 번째 공급자가 기본 공급자
+    private final List<SearchProvider> searchProviders;
+    private final SearchMetricsService searchMetricsService;
+
+    private final ExecutorService providerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PreDestroy
+    void shutdownExecutor() {
+        providerExecutor.shutdownNow();
+    }
+
+    @Override
+    public List<ArticleResponse> search(List<Keyword> keywords, SearchPriority priority) {
+
+        if (keywords.isEmpty()) {
+            return List.of();
+        }
+
+        ProviderResults<List<ArticleResponse>> providerResults = fanOut(
+                provider -> provider.search(keywords, priority),
+                responses -> responses.stream().mapToInt(response -> response.getGoogleArticles().size()).sum());
+
+        List<ArticleResponse> merged = new ArrayList<>(keywords.size());
+        for (int i = 0; i < keywords.size(); i++) {
+            int index = i;
+            merged.add(merge(keywords.get(i).getResultCount(),
+                    providerResults.providerNames(),
+                    providerResults.results().stream().map(results -> results != null ? results.get(index) : null).toList(),
+                    providerResults.failedProviders()));
+        }
+        return merged;
+
+    }
+
+    @Override
+    public ArticleResponse searchSince(Keyword keyword, LocalDateTime since, LocalDateTime until, int maxPages, SearchPriority priority) {
+
+        ProviderResults<ArticleResponse> providerResults = fanOut(
+                provider -> provider.searchSince(keyword, since, until, maxPages, priority),
+                response -> response.getGoogleArticles().size());
+
+        return merge(keyword.getResultCount(), providerResults.providerNames(), providerResults.results(), providerResults.failedProviders());
+
+    }
+
+    // 활성화된 공급자를 동시에 호출, 실패한 공급자 자리는 null (모두 실패하면 첫 번째 예외를 던짐)
+    // 일부만 실패하면 실패한 공급자 이름을 함께 반환해 호출한 쪽이 워터마크 이동/작업 완료 여부를 판단
+    private <T> ProviderResults<T> fanOut(Function<SearchProvider, T> call, Function<T, Integer> articleCount) {
+
+        List<SearchProvider> providers = searchProviders.stream()
+                .filter(SearchProvider::isEnabled)
+                .toList();
+
+        if (providers.isEmpty()) {
+            throw new IllegalStateException("No search provider is enabled");
+        }
+
+        List<Future<T>> futures = providers.stream()
+                .map(provider -> providerExecutor.submit(() -> timed(provider, () -> call.apply(provider), articleCount)))
+                .toList();
+
+        List<T> results = new ArrayList<>(providers.size());
+        List<String> failedProviders = new ArrayList<>();
+        RuntimeException firstFailure = null;
+
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    RuntimeException failure = e.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new RuntimeException(e.getCause());
+                    log.warn("검색 공급자 실패, 나머지 공급자 결과로 진행: provider={}", providers.get(i).getName(), failure);
+                    firstFailure = firstFailure != null ? firstFailure : failure;
+                    failedProviders.add(providers.get(i).getName());
+                    results.add(null);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new RuntimeException("Search fan-out interrupted", e);
+        }
+
+        if (firstFailure != null && results.stream().allMatch(Objects::isNull)) {
+            throw firstFailure;
+        }
+
+        return new ProviderResults<>(providers.stream().map(SearchProvider::getName).toList(), results, List.copyOf(failedProviders));
+
+    }
+
+    private <T> T timed(SearchProvider provider, Supplier<T> call, Function<T, Integer> articleCount) {
+
+        long startedAt = System.nanoTime();
+        try {
+            // 서킷 브레이커/벌크헤드는 공급자 안에서 HTTP 요청마다 적용 (서킷이 열려 있으면 공급자가 즉시 실패)
+            T result = call.get();
+            searchMetricsService.recordProviderCall(provider.getName(), System.nanoTime() - startedAt, true,
+                    articleCount.apply(result), provider.getRemainingDailyBudget());
+            return result;
+        } catch (RuntimeException e) {
+            searchMetricsService.recordProviderCall(provider.getName(), System.nanoTime() - startedAt, false,
+                    0, provider.getRemainingDailyBudget());
+            throw e;
+        }
+
+    }
+
+    // 공급자 순서대로 병합하며 정규화 URL이 같은 기사는 먼저 나온 것만 유지
+    // fetchedResults는 다음 수집의 Google 페이지 수 산정에 쓰이므로 Google 공급자 기준 (비활성/실패 시 기존 값 유지)
+    private ArticleResponse merge(int previousFetchedResults, List<String> providerNames,
+                                  List<ArticleResponse> responses, List<String> failedProviders) {
+
+        Set<String> seenUrls = new HashSet<>();
+        List<ArticleGoogleDto> articles = new ArrayList<>();
+        int totalResults = 0;
+        LocalDateTime completeSince = null;
+
+        for (ArticleResponse response : responses) {
+            if (response == null) {
+                continue;
+            }
+            totalResults = Math.max(totalResults, response.getTotalResults());
+            // 공급자 중 가장 늦은 시각까지만 모든 공급자의 결과가 빠짐없음
+            if (response.getCompleteSince() != null
+                    && (completeSince == null || response.getCompleteSince().isAfter(completeSince))) {
+                completeSince = response.getCompleteSince();
+            }
+            for (ArticleGoogleDto article : response.getGoogleArticles()) {
+                if (article.getUrl() == null || article.getUrl().isBlank() || seenUrls.add(UrlHashUtil.normalize(article.getUrl()))) {
+                    articles.add(article);
+                }
+            }
+        }
+
+        int primaryIndex = providerNames.indexOf(GoogleSearchProvider.NAME);
+        ArticleResponse primary = primaryIndex >= 0 ? responses.get(primaryIndex) : null;
+
+        return ArticleResponse.builder()
+                .googleArticles(articles)
+                .totalResults(totalResults)
+                .fetchedResults(primary != null ? primary.getFetchedResults() : previousFetchedResults)
+                .failedProviders(failedProviders)
+                .completeSince(completeSince)
+                .build();
+
+    }
+
+    // providerNames와 results는 같은 순서 (실패한 공급자 자리는 null)
+    private record ProviderResults<T>(List<String> providerNames, List<T> results, List<String> failedProviders) {
+    }
+
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -11,13 +12,15 @@ import org.springframework.transaction.annotation.Transactional;
 import the_monitor.application.dto.ArticleGoogleDto;
 import the_monitor.application.dto.response.ArticleResponse;
 import the_monitor.application.service.AccountService;
+import the_monitor.application.service.ArticleIngestionService;
+import the_monitor.application.service.ArticleSearchService;
 import the_monitor.application.service.ArticleService;
-import the_monitor.application.service.GoogleSearchService;
 import the_monitor.application.service.KeywordService;
 import the_monitor.common.ApiException;
 import the_monitor.common.ErrorStatus;
 import the_monitor.common.PageResponse;
 import the_monitor.domain.enums.CategoryType;
+import the_monitor.domain.enums.SearchPriority;
 import the_monitor.domain.model.Account;
 import the_monitor.domain.model.Article;
 
@@ -25,6 +28,7 @@ import the_monitor.domain.model.Keyword;
 import the_monitor.domain.repository.ArticleRepository;
 import the_monitor.infrastructure.security.CustomUserDetails;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -32,10 +36,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ArticleServiceImpl implements ArticleService {
 
+    // 발행일 최신순 (발행일이 없는 기사는 뒤로)
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("publishedAt"), Sort.Order.desc("id"));
+
     private final ArticleRepository articleRepository;
 
     private final KeywordService keywordService;
-    private final GoogleSearchService googleSearchService;
+    private final ArticleIngestionService articleIngestionService;
+    private final ArticleSearchService articleSearchService;
     private final AccountService accountService;
 
     @Override
@@ -53,26 +61,18 @@ public class ArticleServiceImpl implements ArticleService {
 
         Long accountId = getAccountIdFromAuthentication();
 
+        List<Keyword> keywords = new ArrayList<>();
         for (CategoryType categoryType : CategoryType.values()) {
-            List<Keyword> keywords = keywordService.getKeywordByAccountIdAndClientIdAndCategoryType(accountId, clientId, categoryType);
-
-            for (Keyword keyword : keywords) {
-                saveArticlesFromGoogle(keyword);
-            }
+            keywords.addAll(keywordService.getKeywordByAccountIdAndClientIdAndCategoryType(accountId, clientId, categoryType));
         }
 
-        return "기사 저장 완료";
-
-    }
+        // 고객사의 모든 키워드를 모든 검색 공급자에서 동시에 검색한 뒤 요청 스레드에서 저장
+        List<ArticleResponse> articleResponses = articleSearchService.search(keywords, SearchPriority.INTERACTIVE);
 
-    private void saveArticlesFromGoogle(Keyword keyword) {
+        // 고객사 전체 수집 결과를 중복 제거 후 한 번에 저장
+        articleIngestionService.saveSearchResults(keywords, articleResponses);
 
-        ArticleResponse articleResponse = googleSearchService.toDto(keyword.getKeyword());
-
-        for (ArticleGoogleDto dto : articleResponse.getGoogleArticles()) {
-
-            articleRepository.save(dto.toEntity(keyword));
-        }
+        return "기사 저장 완료";
 
     }
 
@@ -83,7 +83,7 @@ public class ArticleServiceImpl implements ArticleService {
         Long clientId = getClientIdFromAuthentication();
 
         // 페이지네이션 처리
-        Pageable pageable = PageRequest.of(page - 1, 10); // 페이지는 0부터 시작, size는 10
+        Pageable pageable = PageRequest.of(page - 1, 10, LATEST_FIRST); // 페이지는 0부터 시작, size는 10
 
         // Repository 메서드 호출
         Page<Article> articlePage = articleRepository.findByClientIdAndCategoryType(clientId, categoryType, pageable);
@@ -104,7 +104,7 @@ public class ArticleServiceImpl implements ArticleService {
         }
 
         // 페이지네이션 처리
-        Pageable pageable = PageRequest.of(page - 1, 10); // 페이지는 0부터 시작, size는 10
+        Pageable pageable = PageRequest.of(page - 1, 10, LATEST_FIRST); // 페이지는 0부터 시작, size는 10
 
         // DB에서 특정 Keyword에 해당하는 Article 조회
         Page<Article> articlePage = articleRepository.findByKeyword(keyword, pageable);
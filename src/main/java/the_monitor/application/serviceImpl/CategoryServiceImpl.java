@@ -43,6 +43,27 @@ public class CategoryServiceImpl implements CategoryService {
 
     }
 
+    // 기존 카테고리에 키워드 추가, 해당 유형의 카테고리가 없으면 새로 생성
+    @Override
+    public List<Keyword> addKeywords(CategoryType categoryType,
+                                     List<String> keywords,
+                                     Client client) {
+
+        Category category = categoryRepository.findFirstByClientIdAndCategoryTypeOrderByIdAsc(client.getId(), categoryType)
+                .orElseGet(() -> categoryRepository.save(Category.builder()
+                        .categoryType(categoryType)
+                        .client(client)
+                        .build()));
+
+        List<Keyword> keywordEntities = createKeywords(keywords, category);
+        keywordRepository.saveAll(keywordEntities);
+
+        category.addKeywords(keywordEntities);
+
+        return keywordEntities;
+
+    }
+
     // 키워드 리스트를 Keyword 엔티티로 변환
     @Override
     public List<Keyword> createKeywords(List<String> keywords, Category category) {
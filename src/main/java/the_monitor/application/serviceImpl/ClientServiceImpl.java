@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 import the_monitor.common.ApiException;
 import the_monitor.common.ErrorStatus;
 import the_monitor.domain.enums.CategoryType;
+import the_monitor.domain.enums.ImageVariant;
 import the_monitor.domain.model.*;
 import the_monitor.domain.repository.*;
 import the_monitor.infrastructure.jwt.JwtProvider;
@@ -36,8 +37,8 @@ public class ClientServiceImpl implements ClientService {
     private final CategoryService categoryService;
     private final AccountRepository accountRepository;
 
-    private final S3Service s3Service;
-    private final ArticleService articleService;
+    private final StoredFileService storedFileService;
+    private final IngestionJobService ingestionJobService;
     private final AccountService accountService;
     private final EmailService emailService;
 
@@ -57,7 +58,7 @@ public class ClientServiceImpl implements ClientService {
                 .orElseThrow(() -> new ApiException(ErrorStatus._ACCOUNT_NOT_FOUND));
 
         String logoPath;
-        logoPath = (logo != null) ? s3Service.uploadFile(logo) : defaultLogoUrl;
+        logoPath = (logo != null) ? storedFileService.store(logo) : defaultLogoUrl;
 
         // 클라이언트 객체 생성
         Client client = Client.builder()
@@ -78,8 +79,8 @@ public class ClientServiceImpl implements ClientService {
         // 이메일 수신자와 참조인 저장
         emailService.saveEmails(clientRequest.getRecipientEmails(), clientRequest.getCcEmails(), client);
 
-        // 기사 저장
-        articleService.saveArticles(client.getId());
+        // 기사 수집은 비동기 작업으로 등록 (커밋 후 전용 실행기에서 실행)
+        Long ingestionJobId = ingestionJobService.enqueue(client.getId(), extractedAccountId);
 
         // ClientResponse 반환
         return ClientResponse.builder()
@@ -87,6 +88,7 @@ public class ClientServiceImpl implements ClientService {
                 .name(client.getName())
                 .managerName(client.getManagerName())
                 .logoUrl(client.getLogo())
+                .ingestionJobId(ingestionJobId)
                 .build();
 
     }
@@ -99,14 +101,7 @@ public class ClientServiceImpl implements ClientService {
             return List.of();
         }
 
-        return clients.stream()
-                .map(client -> ClientResponse.builder()
-                        .clientId(client.getId())
-                        .name(client.getName())
-                        .managerName(client.getManagerName())
-                        .logoUrl(client.getLogo())
-                        .build())
-                .collect(Collectors.toList());
+        return toClientResponses(clients);
     }
 
     @Override
@@ -151,10 +146,15 @@ public class ClientServiceImpl implements ClientService {
             throw new ApiException(ErrorStatus._CLIENT_FORBIDDEN);
         }
 
-        // 2. Client 삭제
+        // 2. 고객사와 보고서가 참조하던 로고/서명 이미지 참조 해제
+        storedFileService.release(client.getLogo());
+        storedFileService.release(client.getSignatureUrl());
+        client.getReports().forEach(report -> storedFileService.release(report.getLogo()));
+
+        // 3. Client 삭제
         clientRepository.delete(client);
 
-        // 3. 성공 메시지 반환
+        // 4. 성공 메시지 반환
         return "고객사 정보가 성공적으로 삭제되었습니다.";
     }
 
@@ -167,8 +167,12 @@ public class ClientServiceImpl implements ClientService {
         Client client = clientRepository.findByIdAndAccountId(clientId, accountId)
                 .orElseThrow(() -> new ApiException(ErrorStatus._CLIENT_FORBIDDEN));
 
-        String logoPath;
-        logoPath = (logo != null) ? s3Service.uploadFile(logo) : defaultLogoUrl;
+        // 새 로고가 없으면 기존 로고 유지
+        String logoPath = null;
+        if (logo != null) {
+            logoPath = storedFileService.store(logo);
+            storedFileService.release(client.getLogo());
+        }
 
         // 2. 수정 사항 적용
         client.updateClientInfo(request.getName(), request.getManagerName(), logoPath);
@@ -194,14 +198,25 @@ public class ClientServiceImpl implements ClientService {
         List<Client> clients = clientRepository.findByAccountAndNameContainingIgnoreCase(account, searchText);
 
         // 결과 변환 및 반환
+        return toClientResponses(clients);
+    }
+
+    // 목록의 로고 썸네일 URL은 한 번에 조회
+    private List<ClientResponse> toClientResponses(List<Client> clients) {
+
+        Map<String, String> thumbnailUrls = storedFileService.getVariantUrls(
+                clients.stream().map(Client::getLogo).toList(), ImageVariant.THUMBNAIL);
+
         return clients.stream()
                 .map(client -> ClientResponse.builder()
                         .clientId(client.getId())
                         .name(client.getName())
                         .managerName(client.getManagerName())
                         .logoUrl(client.getLogo())
+                        .logoThumbnailUrl(thumbnailUrls.get(client.getLogo()))
                         .build())
                 .collect(Collectors.toList());
+
     }
 
     private Long getAccountId() {
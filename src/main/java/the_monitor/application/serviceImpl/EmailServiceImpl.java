@@ -1,10 +1,6 @@
 package the_monitor.application.serviceImpl;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -14,10 +10,12 @@ import the_monitor.application.dto.request.EmailUpdateRequest;
 import the_monitor.application.dto.response.EmailResponse;
 import the_monitor.application.dto.response.EmailSendResponse;
 import the_monitor.application.service.EmailService;
-import the_monitor.application.service.ExcelService;
-import the_monitor.application.service.S3Service;
+import the_monitor.application.service.MailOutboxService;
+import the_monitor.application.service.StoredFileService;
 import the_monitor.common.ApiException;
 import the_monitor.common.ErrorStatus;
+import the_monitor.domain.enums.ImageVariant;
+import the_monitor.domain.enums.MailStatus;
 import the_monitor.domain.model.Account;
 import the_monitor.domain.model.Client;
 import the_monitor.domain.model.ClientMailCC;
@@ -25,9 +23,6 @@ import the_monitor.domain.model.ClientMailRecipient;
 import the_monitor.domain.repository.*;
 import the_monitor.infrastructure.security.CustomUserDetails;
 
-import java.io.File;
-import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,29 +32,23 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxService mailOutboxService;
 
     private final ClientMailRecipientRepository clientMailRecipientRepository;
     private final ClientMailCCRepository clientMailCCRepository;
     private final ClientRepository clientRepository;
     private final AccountRepository accountRepository;
+    private final ReportRepository reportRepository;
 
-    private final ExcelService excelService;
-    private final S3Service s3Service;
+    private final StoredFileService storedFileService;
 
 
+    // 단건 메일 발송 등록 (요청 스레드는 SMTP 응답을 기다리지 않음)
     @Override
-    public void sendEmail(String toEmail, String subject, String body) throws MessagingException, UnsupportedEncodingException {
-
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "utf-8");
-
-        helper.setFrom("themonitor2024@gmail.com", "The Monitor"); //보내는사람
-        helper.setTo(toEmail); //받는사람
-        helper.setSubject(subject); //메일제목
-        helper.setText(body, true); //ture넣을경우 html
+    @Transactional
+    public Long sendEmail(String toEmail, String subject, String body) {
 
-        javaMailSender.send(mimeMessage);
+        return mailOutboxService.enqueue(null, List.of(toEmail), List.of(), subject, body, null);
 
     }
 
@@ -120,6 +109,7 @@ public class EmailServiceImpl implements EmailService {
                 .recipients(recipients)
                 .ccs(ccs)
                 .signatureImageUrl(signatureImageUrl)
+                .signatureEmailImageUrl(storedFileService.getVariantUrl(signatureImageUrl, ImageVariant.SIGNATURE))
                 .build();
     }
 
@@ -142,8 +132,9 @@ public class EmailServiceImpl implements EmailService {
 
 // 서명 이미지 처리
         if (signatureImage != null && !signatureImage.isEmpty()) {
-            // S3에 이미지 업로드 후 URL 가져오기
-            String imageUrl = s3Service.uploadFile(signatureImage);
+            // 내용 해시 기준으로 저장 (같은 이미지는 다시 업로드하지 않음) 후 기존 서명 참조 해제
+            String imageUrl = storedFileService.store(signatureImage);
+            storedFileService.release(client.getSignatureUrl());
 
             // Client의 signatureUrl 필드 업데이트
             client.updateImageUrl(imageUrl);
@@ -173,70 +164,48 @@ public class EmailServiceImpl implements EmailService {
                 .recipients(recipientEmails)
                 .ccs(ccEmails)
                 .signatureImageUrl(signatureImageUrl)
+                .signatureEmailImageUrl(storedFileService.getVariantUrl(signatureImageUrl, ImageVariant.SIGNATURE))
                 .build();
     }
 
+    // 보고서 메일 발송 등록 (SMTP 발송과 엑셀 생성은 메일 작업자가 수행)
     @Override
+    @Transactional
     public EmailSendResponse sendReportEmailWithAttachment(Long reportId, String subject, String content) {
 
-        File excelFile = null;
-        try {
-            Long clientId = getClientIdFromAuthentication();
-
-            // 1. Client 조회
-            Client client = clientRepository.findById(clientId)
-                    .orElseThrow(() -> new ApiException(ErrorStatus._CLIENT_NOT_FOUND));
-
-            // 2. 수신자 이메일 조회
-            List<String> toEmails = clientMailRecipientRepository.findAllByClient(client).stream()
-                    .map(ClientMailRecipient::getAddress)
-                    .toList();
-
-            // 3. 참조 이메일 조회
-            List<String> ccEmails = clientMailCCRepository.findAllByClient(client).stream()
-                    .map(ClientMailCC::getAddress)
-                    .toList();
-
-            // 4. 엑셀 파일 생성
-            excelFile = excelService.createExcelFile(reportId);
-
-            // 5. 이메일 전송 준비
-            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "utf-8");
-            helper.setFrom("themonitor2024@gmail.com", "The Monitor");
-
-            helper.setTo(toEmails.toArray(new String[0]));
-            if (!ccEmails.isEmpty()) {
-                helper.setCc(ccEmails.toArray(new String[0]));
-            }
-            helper.setSubject(subject);
-            helper.setText(content, true);
-
-            // 6. 첨부 파일 추가
-            if (excelFile != null) {
-                helper.addAttachment("report.xlsx", excelFile);
-            }
-
-            // 7. 이메일 전송
-            javaMailSender.send(mimeMessage);
-
-            // 8. 응답 빌드
-            return EmailSendResponse.builder()
-                    .toEmails(toEmails)
-                    .ccEmails(ccEmails)
-                    .build();
+        Long accountId = getAccountId();
+        Long clientId = getClientIdFromAuthentication();
 
-        } catch (MessagingException e) {
-            throw new ApiException(ErrorStatus._EMAIL_SEND_FAIL);
-        } catch (IOException e) {
-            throw new ApiException(ErrorStatus._FILE_OPERATION_FAIL);
-        } finally {
-            // 9. 임시 파일 삭제
-            if (excelFile != null && excelFile.exists()) {
-                excelFile.delete();
-            }
+        // 1. Client 조회 (요청 계정의 고객사인지 확인)
+        Client client = clientRepository.findByIdAndAccountId(clientId, accountId)
+                .orElseThrow(() -> new ApiException(ErrorStatus._CLIENT_FORBIDDEN));
+
+        // 첨부할 보고서가 이 고객사의 것인지 등록 시점에 확인 (작업자에서 없는 보고서를 재시도하지 않도록)
+        if (reportRepository.findReportByClientIdAndReportId(clientId, reportId) == null) {
+            throw new ApiException(ErrorStatus._REPORT_NOT_FOUND);
         }
 
+        // 2. 수신자 이메일 조회
+        List<String> toEmails = clientMailRecipientRepository.findAllByClient(client).stream()
+                .map(ClientMailRecipient::getAddress)
+                .toList();
+
+        // 3. 참조 이메일 조회
+        List<String> ccEmails = clientMailCCRepository.findAllByClient(client).stream()
+                .map(ClientMailCC::getAddress)
+                .toList();
+
+        // 4. 발송 대기열에 등록
+        Long mailId = mailOutboxService.enqueue(accountId, toEmails, ccEmails, subject, content, reportId);
+
+        // 5. 응답 빌드
+        return EmailSendResponse.builder()
+                .mailId(mailId)
+                .status(MailStatus.PENDING)
+                .toEmails(toEmails)
+                .ccEmails(ccEmails)
+                .build();
+
     }
 
     private Long getAccountId() {
@@ -4,13 +4,23 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import the_monitor.application.service.ExcelService;
+import the_monitor.common.ApiException;
+import the_monitor.common.ErrorStatus;
 import the_monitor.domain.enums.CategoryType;
 import the_monitor.domain.model.*;
+import the_monitor.domain.repository.ReportCategoryRepository;
 import the_monitor.domain.repository.ReportRepository;
+import the_monitor.infrastructure.excel.ExcelStyleRegistry;
+import the_monitor.infrastructure.excel.ExcelStyleRegistry.FontSpec;
+import the_monitor.infrastructure.excel.ExcelStyleRegistry.StyleSpec;
+import the_monitor.infrastructure.excel.ExcelTemplateCache;
+import the_monitor.infrastructure.utils.PublishDateParser;
 
 import java.io.*;
 import java.time.LocalDateTime;
@@ -23,85 +33,92 @@ import java.util.List;
 public class ExcelServiceImpl implements ExcelService {
 
     private final ReportRepository reportRepository;
+    private final ReportCategoryRepository reportCategoryRepository;
+    private final ExcelTemplateCache excelTemplateCache;
 
-    // 엑셀 경로 수정
-    private static final String TEMPLATE_PATH = "/templates/templates.xlsx";
+    // 메모리에 유지할 행 수 (초과분은 임시 파일로 내려가 보고서 크기와 무관하게 힙 사용량 일정)
+    private static final int ROW_ACCESS_WINDOW = 100;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    // 카테고리 타이틀 (맑은 고딕 14pt Bold)
+    private static final StyleSpec CATEGORY_TITLE_STYLE = StyleSpec.of(new FontSpec("맑은 고딕", (short) 14, true));
 
     @Override
-    public File createExcelFile(Long reportId) {
+    public void writeExcel(Long reportId, OutputStream outputStream) {
 
         Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new IllegalArgumentException("Report not found"));
+                .orElseThrow(() -> new ApiException(ErrorStatus._REPORT_NOT_FOUND));
 
-        List<ReportCategory> reportCategories = report.getReportCategories();
+        // 카테고리 + 기사 (1 쿼리)
+        List<ReportCategory> reportCategories = reportCategoryRepository.findWithArticlesByReportId(reportId);
 
-        try (InputStream templateStream = getClass().getResourceAsStream(TEMPLATE_PATH)) {
-            if (templateStream == null) {
-                throw new IllegalStateException("Excel template not found");
-            }
+        try {
+            SXSSFWorkbook workbook = new SXSSFWorkbook(excelTemplateCache.openWorkbook(), ROW_ACCESS_WINDOW);
+            workbook.setCompressTempFiles(true);
 
-            Workbook workbook = new XSSFWorkbook(templateStream);
-            Sheet sheet = workbook.getSheetAt(0);
+            try {
+                ReportSheetWriter writer = new ReportSheetWriter(workbook);
 
-            // B2: Client 이름
-            setCellValue(sheet, 1, 1, report.getClient().getName());
+                // B2: Client 이름
+                writer.setCellValue(1, 1, report.getClient().getName());
 
-            // B3: Report Title
-            setCellValue(sheet, 2, 1, report.getTitle());
+                // B3: Report Title
+                writer.setCellValue(2, 1, report.getTitle());
 
-            int currentRow = 6; // SELF 기사 시작 위치 (B7)
+                int currentRow = 6; // SELF 기사 시작 위치 (B7)
 
-            for (CategoryType categoryType : CategoryType.values()) {
-                List<ReportCategory> categories = reportCategories.stream()
-                        .filter(category -> category.getCategoryType() == categoryType)
-                        .toList();
+                for (CategoryType categoryType : CategoryType.values()) {
+                    List<ReportCategory> categories = reportCategories.stream()
+                            .filter(category -> category.getCategoryType() == categoryType)
+                            .toList();
 
-                if (categories.isEmpty()) continue;
+                    if (categories.isEmpty()) continue;
 
-                // 카테고리 타이틀 삽입
-                if (categoryType != CategoryType.SELF) {
-                    currentRow++;
-                    mergeCells(sheet, currentRow, currentRow, 1, 7);
+                    // 카테고리 타이틀 삽입
+                    if (categoryType != CategoryType.SELF) {
+                        currentRow++;
 
-                    // 카테고리명 설정
-                    String categoryTitle = switch (categoryType) {
-                        case COMPETITOR -> "경쟁사";
-                        case INDUSTRY -> "산업";
-                        default -> categoryType.name();
-                    };
-                    setCellValue(sheet, currentRow, 1, categoryTitle);
+                        // 카테고리명 설정
+                        String categoryTitle = switch (categoryType) {
+                            case COMPETITOR -> "경쟁사";
+                            case INDUSTRY -> "산업";
+                            default -> categoryType.name();
+                        };
+                        writer.setCellValue(currentRow, 1, categoryTitle);
+                        writer.mergeTitleCells(currentRow, 1, 7);
 
-                    currentRow++; // 카테고리 타이틀 아래로 이동
-                }
+                        currentRow++; // 카테고리 타이틀 아래로 이동
+                    }
 
-                // 각 카테고리에서 번호 초기화
-                int categoryNumber = 1;
-
-                // 카테고리 기사 데이터 삽입
-                for (ReportCategory category : categories) {
-                    for (ReportArticle article : category.getReportArticles()) {
-                        // 기사 삽입
-                        setCellValue(sheet, currentRow, 1, String.valueOf(categoryNumber)); // 번호
-                        setCellValue(sheet, currentRow, 2, formatDate(article.getPublishDate())); // 날짜
-                        setCellValue(sheet, currentRow, 3, article.getKeyword());          // 키워드
-                        setCellValue(sheet, currentRow, 4, article.getTitle());            // 제목
-                        setCellValue(sheet, currentRow, 5, article.getUrl());              // URL
-                        setCellValue(sheet, currentRow, 6, article.getPublisherName());    // Publisher
-                        currentRow++;
-                        categoryNumber++; // 번호 증가
+                    // 각 카테고리에서 번호 초기화
+                    int categoryNumber = 1;
+
+                    // 카테고리 기사 데이터 삽입
+                    for (ReportCategory category : categories) {
+                        for (ReportArticle article : category.getReportArticles()) {
+                            // 기사 삽입
+                            writer.setCellValue(currentRow, 1, String.valueOf(categoryNumber)); // 번호
+                            writer.setCellValue(currentRow, 2, formatDate(article)); // 날짜
+                            writer.setCellValue(currentRow, 3, article.getKeyword());          // 키워드
+                            writer.setCellValue(currentRow, 4, article.getTitle());            // 제목
+                            writer.setCellValue(currentRow, 5, article.getUrl());              // URL
+                            writer.setCellValue(currentRow, 6, article.getPublisherName());    // Publisher
+                            currentRow++;
+                            categoryNumber++; // 번호 증가
+                        }
                     }
                 }
-            }
 
-            // 로컬 임시 파일 생성
-            File tempFile = File.createTempFile("report_" + reportId, ".xlsx");
-            try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-                workbook.write(fos);
+                workbook.write(outputStream);
+                outputStream.flush();
+            } finally {
+                // SXSSF가 행을 내려 쓴 임시 파일 정리
+                workbook.dispose();
+                workbook.close();
             }
 
-            return tempFile;
-
-        } catch (Exception e) {
+        } catch (IOException e) {
             throw new RuntimeException("엑셀 파일 생성 중 오류 발생", e);
         }
 
@@ -110,94 +127,84 @@ public class ExcelServiceImpl implements ExcelService {
     @Override
     public void generateExcel(Long reportId, HttpServletResponse response) {
 
-        try {
-            File excelFile = createExcelFile(reportId); // 파일 생성
-
-            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
-            response.setHeader("Content-Disposition", "attachment;filename=report.xlsx");
-
-            // 파일을 HTTP 응답으로 전송
-            try (OutputStream outputStream = response.getOutputStream();
-                 FileInputStream fis = new FileInputStream(excelFile)) {
-                byte[] buffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = fis.read(buffer)) != -1) {
-                    outputStream.write(buffer, 0, bytesRead);
-                }
-            }
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader("Content-Disposition", "attachment;filename=report.xlsx");
 
-            // 로컬 파일 삭제
-            if (excelFile.exists()) {
-                excelFile.delete();
-            }
+        try {
+            // 파일을 거치지 않고 HTTP 응답으로 바로 전송
+            writeExcel(reportId, response.getOutputStream());
+            response.flushBuffer();
 
-        } catch (Exception e) {
+        } catch (IOException e) {
             throw new RuntimeException("엑셀 파일 다운로드 중 오류 발생", e);
         }
 
     }
 
-    // 셀 병합 유틸리티
-    private void mergeCells(Sheet sheet, int firstRow, int lastRow, int firstCol, int lastCol) {
-
-        CellRangeAddress cellRangeAddress = new CellRangeAddress(firstRow, lastRow, firstCol, lastCol);
-        sheet.addMergedRegion(cellRangeAddress);
+    // 템플릿에 이미 있는 행(B2~B20)은 XSSF 시트에, 그 아래 행은 SXSSF 시트에 기록
+    // (SXSSF는 템플릿 마지막 행 이하의 행을 새로 만들 수 없음)
+    private static class ReportSheetWriter {
 
-        Workbook workbook = sheet.getWorkbook();
-        CellStyle style = workbook.createCellStyle();
+        private final SXSSFSheet streamingSheet;
+        private final XSSFSheet templateSheet;
+        private final int templateLastRow;
 
-        Font font = workbook.createFont();
-        font.setBold(true); // Bold 처리
-        font.setFontHeightInPoints((short) 14);
-        font.setFontName("맑은 고딕");
-        style.setFont(font);
+        private final ExcelStyleRegistry styleRegistry;
 
-        Row row = sheet.getRow(firstRow);
-        if (row == null) {
-            row = sheet.createRow(firstRow);
+        private ReportSheetWriter(SXSSFWorkbook workbook) {
+            this.streamingSheet = workbook.getSheetAt(0);
+            this.templateSheet = workbook.getXSSFWorkbook().getSheetAt(0);
+            this.templateLastRow = templateSheet.getLastRowNum();
+            this.styleRegistry = new ExcelStyleRegistry(workbook);
         }
-        Cell cell = row.getCell(firstCol);
-        if (cell == null) {
-            cell = row.createCell(firstCol);
+
+        // 셀 병합 유틸리티
+        private void mergeTitleCells(int rowNumber, int firstCol, int lastCol) {
+            streamingSheet.addMergedRegion(new CellRangeAddress(rowNumber, rowNumber, firstCol, lastCol));
+            getCell(rowNumber, firstCol).setCellStyle(styleRegistry.getStyle(CATEGORY_TITLE_STYLE));
         }
-        cell.setCellStyle(style);
-    }
 
-    // 셀 값 설정 유틸리티
-    private void setCellValue(Sheet sheet, int rowNumber, int columnNumber, String value) {
-        Row row = sheet.getRow(rowNumber);
-        if (row == null) {
-            row = sheet.createRow(rowNumber);
+        // 셀 값 설정 유틸리티
+        private void setCellValue(int rowNumber, int columnNumber, String value) {
+            getCell(rowNumber, columnNumber).setCellValue(value);
         }
-        Cell cell = row.getCell(columnNumber);
-        if (cell == null) {
-            cell = row.createCell(columnNumber);
+
+        private Cell getCell(int rowNumber, int columnNumber) {
+
+            Sheet sheet = rowNumber <= templateLastRow ? templateSheet : streamingSheet;
+
+            Row row = sheet.getRow(rowNumber);
+            if (row == null) {
+                row = sheet.createRow(rowNumber);
+            }
+            Cell cell = row.getCell(columnNumber);
+            if (cell == null) {
+                cell = row.createCell(columnNumber);
+            }
+            return cell;
+
         }
-        cell.setCellValue(value);
+
     }
 
-    private String formatDate(String dateTime) {
-        if (dateTime == null || dateTime.isEmpty()) {
-            return null; // 날짜가 없을 경우 기본값 반환
+    // 수집 시 해석해 둔 publishedAt을 우선 사용하고, 값이 없는 예전 데이터만 문자열을 해석
+    private String formatDate(ReportArticle article) {
+
+        LocalDateTime publishedAt = article.getPublishedAt() != null
+                ? article.getPublishedAt()
+                : PublishDateParser.parse(article.getPublishDate());
+
+        if (publishedAt != null) {
+            return publishedAt.format(DATE_FORMATTER);
         }
 
-        // 지원할 날짜 형식 리스트
-        String[] patterns = {
-                "yyyy.MM.dd HH:mm",
-                "yyyy-MM-dd'T'HH:mm:ssXXX", // ISO 8601 형식
-                "yyyy-MM-dd HH:mm:ss",
-                "yyyy-MM-dd"
-        };
-        for (String pattern : patterns) {
-            try {
-                // 패턴에 맞는 날짜를 반환
-                return LocalDateTime.parse(dateTime, DateTimeFormatter.ofPattern(pattern)).format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            } catch (Exception ignored) {
-                // 패턴이 맞지 않을 경우 무시하고 다음으로 진행
-            }
+        if (article.getPublishDate() == null || article.getPublishDate().isEmpty()) {
+            return null; // 날짜가 없을 경우 기본값 반환
         }
-        // 모든 패턴에 맞지 않는 경우 기본값 반환
+
+        // 해석할 수 없는 형식인 경우 기본값 반환
         return "유효하지 않은 날짜";
+
     }
 
 }
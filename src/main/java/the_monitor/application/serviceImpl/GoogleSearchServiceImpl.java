@@ -1,29 +1,56 @@
 package the_monitor.application.serviceImpl;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 import the_monitor.application.dto.ArticleGoogleDto;
+import the_monitor.application.dto.SearchPageDto;
 import the_monitor.application.dto.response.ArticleResponse;
 import the_monitor.application.service.GoogleSearchService;
-
-import java.io.IOException;
+import the_monitor.application.service.SearchMetricsService;
+import the_monitor.common.ApiException;
+import the_monitor.common.ErrorStatus;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+import the_monitor.infrastructure.cache.SearchResultCache;
+import the_monitor.infrastructure.ratelimit.RetryBackoff;
+import the_monitor.infrastructure.ratelimit.SearchRateLimiter;
+import the_monitor.infrastructure.resilience.SearchProviderGuard;
+import the_monitor.infrastructure.search.GoogleSearchProvider;
+import the_monitor.infrastructure.search.GoogleSearchResponseParser;
+import the_monitor.infrastructure.utils.PublishDateParser;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GoogleSearchServiceImpl implements GoogleSearchService {
 
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_PAGES = 10;
+
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final SearchMetricsService searchMetricsService;
+    private final SearchRateLimiter searchRateLimiter;
+    private final SearchResultCache searchResultCache;
+    private final GoogleSearchResponseParser googleSearchResponseParser;
+    private final SearchProviderGuard searchProviderGuard;
 
     @Value("${google.api.key}")
     private String apiKey;
@@ -34,129 +61,332 @@ public class GoogleSearchServiceImpl implements GoogleSearchService {
     @Value("${google.api.base-url:https://www.googleapis.com/customsearch/v1}")
     private String baseUrl;
 
-    @Override
-    public ArticleResponse toDto(String keyword) {
+    // 전체 애플리케이션에서 동시에 나갈 수 있는 Google 요청 수
+    @Value("${google.api.max-concurrency:8}")
+    private int maxConcurrency;
+
+    // 한 고객사의 키워드 중 동시에 검색할 수 있는 키워드 수
+    @Value("${google.api.client-concurrency:4}")
+    private int clientConcurrency;
+
+    // 429/5xx 응답 시 최대 시도 횟수
+    @Value("${google.api.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${google.api.backoff-base-ms:500}")
+    private long backoffBaseMs;
+
+    @Value("${google.api.backoff-max-ms:8000}")
+    private long backoffMaxMs;
+
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private Semaphore requestPermits;
+
+    @PostConstruct
+    void initRequestPermits() {
+        this.requestPermits = new Semaphore(maxConcurrency);
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        searchExecutor.shutdownNow();
+    }
+
+    // keywordId가 없으면(저장되지 않은 검색어) 페이징 지표를 기록하지 않음
+    private ArticleResponse toDto(String keyword, Long keywordId, int historicalResultCount, SearchPriority priority) {
+
+        // 첫 페이지로 searchInformation.totalResults 확인
+        SearchPageDto firstPage = await(searchExecutor.submit(() -> searchPage(keyword, 1, null, null, priority)));
+
+        int plannedPages = planPages(firstPage, historicalResultCount);
+
+        // 나머지 페이지(start=11..)를 가상 스레드에서 동시에 요청
+        List<Future<SearchPageDto>> remainingPages = new ArrayList<>();
+        for (int page = 1; page < plannedPages; page++) {
+            int pageStart = page * PAGE_SIZE + 1;
+            remainingPages.add(searchExecutor.submit(() -> searchPage(keyword, pageStart, null, null, priority)));
+        }
+
+        List<SearchPageDto> pages = new ArrayList<>();
+        pages.add(firstPage);
+        pages.addAll(awaitAll(remainingPages));
 
         List<ArticleGoogleDto> allResults = new ArrayList<>();
-        int start = 1;
         int totalResults = 0;
+        int fetchedResults = 0;
 
-        while (start <= 100) {
-            ArticleResponse pageResults = searchArticles(keyword, start);
+        // 페이지 순서대로 결과 병합, 빈 페이지를 만나면 결과 집합이 끝난 것으로 보고 중단
+        for (SearchPageDto page : pages) {
+            allResults.addAll(page.getArticles());
+            totalResults = page.getTotalResults(); // 전체 결과 수 업데이트
+            fetchedResults += page.getItemCount();
 
-            allResults.addAll(pageResults.getGoogleArticles());
-            totalResults = pageResults.getTotalResults(); // 전체 결과 수 업데이트
-            start += 10;
+            if (page.getItemCount() == 0) {
+                break;
+            }
+        }
 
+        if (keywordId != null) {
+            searchMetricsService.recordPaging(keywordId, pages.size(), MAX_PAGES - pages.size(), fetchedResults);
         }
 
         return ArticleResponse.builder()
                 .googleArticles(allResults)
                 .totalResults(totalResults)
+                .fetchedResults(fetchedResults)
                 .build();
 
     }
 
-    public ArticleResponse searchArticles(String query, int start) {
+    @Override
+    public ArticleResponse searchSince(Keyword target, LocalDateTime since, LocalDateTime until, int maxPages, SearchPriority priority) {
+
+        String keyword = target.getKeyword();
+
+        // 워터마크 이후 기간만 최신순으로 조회 (dateRestrict는 일 단위이므로 최소 1일)
+        // 남은 구간 조회는 sort=date:r:시작일:종료일로 기간을 제한 (일 단위이므로 범위 밖 기사는 아래에서 제외)
+        String dateRestrict = null;
+        String sort;
+        if (until == null) {
+            long days = Math.max(1, (long) Math.ceil(Duration.between(since, PublishDateParser.now()).toMinutes() / (24.0 * 60)));
+            dateRestrict = "d" + days;
+            sort = "date";
+        } else {
+            sort = "date:r:" + since.format(DateTimeFormatter.BASIC_ISO_DATE) + ":" + until.format(DateTimeFormatter.BASIC_ISO_DATE);
+        }
 
-        int retryCount = 3; // 최대 재시도 횟수
-        int attempt = 0;
-        while (true) {
-            try {
-                String url = UriComponentsBuilder.fromHttpUrl(baseUrl)
-                        .queryParam("q", query)
-                        .queryParam("key", apiKey)
-                        .queryParam("cx", searchEngineId)
-                        .queryParam("num", 10)
-                        .queryParam("start", start)
-                        .build(false)
-                        .toUriString();
-
-                HttpHeaders headers = new HttpHeaders();
-                HttpEntity<String> entity = new HttpEntity<>(headers);
-                ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-                System.out.println("검색어 : " + query + " / 페이지 : " + start);
-
-                if (response.getStatusCode() == HttpStatus.OK) {
-                    return parseResponse(response.getBody());
-                } else {
-                    throw new RuntimeException("Failed to search Google: " + response.getStatusCode());
+        List<ArticleGoogleDto> allResults = new ArrayList<>();
+        int totalResults = 0;
+        int fetchedResults = 0;
+        int requestedPages = 0;
+        boolean complete = false;
+        LocalDateTime oldestPublishedAt = null;
+
+        // 최신순 정렬이므로 앞 페이지부터 순서대로 요청하고, 워터마크 이전 기사가 나오거나 결과가 한 페이지를 채우지 못하면 중단
+        for (int page = 0; page < Math.min(maxPages, MAX_PAGES); page++) {
+            SearchPageDto searchPage = searchPage(keyword, page * PAGE_SIZE + 1, dateRestrict, sort, priority);
+            requestedPages++;
+
+            totalResults = searchPage.getTotalResults();
+            fetchedResults += searchPage.getItemCount();
+
+            // 워터마크 이전 기사(dateRestrict가 일 단위라 섞여 들어옴)와 until 이후 기사는 제외
+            boolean reachedWatermark = false;
+            for (ArticleGoogleDto article : searchPage.getArticles()) {
+                LocalDateTime publishedAt = PublishDateParser.parse(article.getPublishDate());
+                if (publishedAt != null && publishedAt.isBefore(since)) {
+                    reachedWatermark = true;
+                    continue;
+                }
+                if (publishedAt != null && until != null && publishedAt.isAfter(until)) {
+                    continue;
                 }
-            } catch (Exception e) {
-                attempt++;
-                if (attempt >= retryCount) {
-                    throw new RuntimeException("Failed to search Google after retries: " + e.getMessage(), e);
+                if (publishedAt != null && (oldestPublishedAt == null || publishedAt.isBefore(oldestPublishedAt))) {
+                    oldestPublishedAt = publishedAt;
                 }
-                System.out.println("Retrying... Attempt " + attempt);
+                allResults.add(article);
+            }
+
+            if (reachedWatermark || searchPage.getItemCount() < PAGE_SIZE) {
+                complete = true;
+                break;
             }
         }
 
+        searchMetricsService.recordPaging(target.getId(), requestedPages, MAX_PAGES - requestedPages, fetchedResults);
+
+        return ArticleResponse.builder()
+                .googleArticles(allResults)
+                .totalResults(totalResults)
+                .fetchedResults(fetchedResults)
+                .completeSince(complete ? null : ArticleResponse.truncatedSince(since, oldestPublishedAt))
+                .build();
+
     }
 
-    private ArticleResponse parseResponse(String jsonResponse) {
+    @Override
+    public List<ArticleResponse> toDtos(List<Keyword> keywords, SearchPriority priority) {
+
+        // 고객사 단위 동시 검색 키워드 수 제한
+        Semaphore clientPermits = new Semaphore(clientConcurrency);
+
+        List<Future<ArticleResponse>> results = new ArrayList<>();
+        for (Keyword keyword : keywords) {
+            results.add(searchExecutor.submit(() -> {
+                clientPermits.acquire();
+                try {
+                    return toDto(keyword.getKeyword(), keyword.getId(), keyword.getResultCount(), priority);
+                } finally {
+                    clientPermits.release();
+                }
+            }));
+        }
 
-        List<ArticleGoogleDto> searchDetails = new ArrayList<>();
+        return awaitAll(results);
 
-        int totalResults = 0;
+    }
+
+    @Override
+    public long getRemainingDailyBudget() {
+        return searchRateLimiter.getRemainingDailyBudget(apiKey);
+    }
+
+    // 요청할 페이지 수 산정: 전체 결과 수와 키워드의 과거 수집량을 모두 넘지 않도록 제한
+    private int planPages(SearchPageDto firstPage, int historicalResultCount) {
+
+        if (firstPage.getItemCount() == 0) {
+            return 1;
+        }
+
+        int pages = Math.min(MAX_PAGES, ceilPages(firstPage.getTotalResults()));
+
+        // 과거 수집량 + 한 페이지 여유분
+        if (historicalResultCount > 0) {
+            pages = Math.min(pages, ceilPages(historicalResultCount) + 1);
+        }
+
+        return Math.max(pages, 1);
+
+    }
+
+    private int ceilPages(int results) {
+        return (results + PAGE_SIZE - 1) / PAGE_SIZE;
+    }
+
+    // 같은 검색어/페이지/기간은 TTL 동안 고객사 간에 한 번만 호출
+    private SearchPageDto searchPage(String query, int start, String dateRestrict, String sort, SearchPriority priority) {
+
+        return searchResultCache.get(cacheKey(query, start, dateRestrict, sort), SearchPageDto.class,
+                () -> searchArticles(query, start, dateRestrict, sort, priority));
+
+    }
+
+    // 동시 요청 수 제한은 HTTP 요청 하나에만 적용 (재시도 대기/토큰 대기 중에는 다른 요청이 진행되도록 반납)
+    private SearchPageDto fetchPageWithPermit(String url, String query) {
 
         try {
-            JsonNode root = objectMapper.readTree(jsonResponse);
+            requestPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Google search interrupted", e);
+        }
 
-            // 총 검색 결과 수 가져오기
-            totalResults = root.path("searchInformation").path("totalResults").asInt(0);
+        try {
+            return searchProviderGuard.execute(GoogleSearchProvider.NAME, () -> fetchPage(url, query));
+        } finally {
+            requestPermits.release();
+        }
+
+    }
 
-            JsonNode items = root.path("items");
+    private <T> T await(Future<T> future) {
+        return awaitAll(List.of(future)).get(0);
+    }
 
-            for (JsonNode item : items) {
-                String title = item.path("title").asText();
-                String snippet = item.path("snippet").asText();
-                String link = item.path("link").asText();
+    // 모든 작업의 결과를 제출 순서대로 반환, 하나라도 실패하면 나머지는 취소
+    private <T> List<T> awaitAll(List<Future<T>> futures) {
 
-                // 이미지 URL 가져오기 (cse_image 노드가 있을 경우)
-                String imageUrl = "";
-                JsonNode cseImageNode = item.path("pagemap").path("cse_image");
-                if (cseImageNode.isArray() && cseImageNode.has(0)) {
-                    imageUrl = cseImageNode.get(0).path("src").asText();
-                }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Google search interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Failed to search Google: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
 
-                // 출판사와 날짜 정보 가져오기 (metatags 노드가 있을 경우)
-                String publisher = "";
-                String publishDate = "";
-                String reporter = "";
-                JsonNode metatagsNode = item.path("pagemap").path("metatags");
-                if (metatagsNode.isArray() && metatagsNode.has(0)) {
-                    publisher = metatagsNode.get(0).path("og:site_name").asText("");
-                    publishDate = metatagsNode.get(0).path("article:published_time").asText("");
-                    reporter = metatagsNode.get(0).path("dable:author").asText("");
+    }
+
+    // 공백/대소문자를 정규화한 검색어 + 시작 위치 + 기간 제한 + 정렬
+    private String cacheKey(String query, int start, String dateRestrict, String sort) {
+        String normalizedQuery = query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return "google:" + normalizedQuery + ":" + start + ":" + (dateRestrict != null ? dateRestrict : "-") + ":" + (sort != null ? sort : "-");
+    }
+
+    // dateRestrict/sort가 없으면 관련도순, sort=date는 최신순, sort=date:r:시작일:종료일은 해당 기간만 최신순
+    // 시도마다 rate limiter 토큰을 받고 서킷 브레이커/벌크헤드를 거쳐 호출 (HTTP 요청 하나가 실패율 표본 하나)
+    // 429/5xx/연결 오류는 지수 백오프 후 재시도, 그 외 4xx는 즉시 실패, 서킷이 열려 있으면 재시도 없이 실패
+    private SearchPageDto searchArticles(String query, int start, String dateRestrict, String sort, SearchPriority priority) {
+
+        String url = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .queryParam("q", query)
+                .queryParam("key", apiKey)
+                .queryParam("cx", searchEngineId)
+                .queryParam("num", PAGE_SIZE)
+                .queryParam("start", start)
+                .queryParamIfPresent("dateRestrict", Optional.ofNullable(dateRestrict))
+                .queryParamIfPresent("sort", Optional.ofNullable(sort))
+                .build(false)
+                .toUriString();
+
+        for (int attempt = 1; ; attempt++) {
+            searchRateLimiter.acquire(apiKey, priority);
+
+            try {
+                SearchPageDto page = fetchPageWithPermit(url, query);
+
+                log.debug("검색어 : {} / 페이지 : {}", query, start);
+
+                return page;
+
+            } catch (HttpStatusCodeException e) {
+                HttpStatusCode statusCode = e.getStatusCode();
+                if (attempt >= maxAttempts) {
+                    throw new ApiException(statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                            ? ErrorStatus._SEARCH_QUOTA_EXCEEDED
+                            : ErrorStatus._SEARCH_UNAVAILABLE);
                 }
 
-                // publisher와 publishDate가 null이면 추가하지 않음.
-                if ((publisher == null || publisher.isEmpty()) && publishDate.isEmpty()) {
-                    continue;
+                backoff(attempt, RetryBackoff.retryAfterMillis(e.getResponseHeaders(), backoffMaxMs), query, statusCode.value());
+
+            } catch (ResourceAccessException e) {
+                if (attempt >= maxAttempts) {
+                    throw new ApiException(ErrorStatus._SEARCH_UNAVAILABLE);
                 }
 
-                ArticleGoogleDto dto = ArticleGoogleDto.builder()
-                        .title(title)
-                        .body(snippet)
-                        .url(link)
-                        .imageUrl(imageUrl)
-                        .publisherName(publisher)
-                        .publishDate(publishDate)
-                        .reporterName(reporter)
-                        .build();
-
-                searchDetails.add(dto);
+                backoff(attempt, 0, query, 0);
             }
+        }
+
+    }
+
+    // 응답 본문을 문자열로 모으지 않고 스트림에서 바로 파싱, 재시도할 수 없는 4xx는 공급자 장애로 세지 않도록 변환
+    private SearchPageDto fetchPage(String url, String query) {
 
-        } catch (IOException e) {
-            e.printStackTrace();
+        try {
+            return restTemplate.execute(url, HttpMethod.GET, null,
+                    response -> googleSearchResponseParser.parse(response.getBody()));
+        } catch (HttpStatusCodeException e) {
+            if (!isRetryable(e.getStatusCode())) {
+                log.warn("Google 검색 요청 거부: status={}, query={}", e.getStatusCode(), query);
+                throw new ApiException(ErrorStatus._SEARCH_REQUEST_REJECTED);
+            }
+            throw e;
         }
 
-        return ArticleResponse.builder()
-                .googleArticles(searchDetails)
-                .totalResults(totalResults)
-                .build();
+    }
+
+    private boolean isRetryable(HttpStatusCode statusCode) {
+        return statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value() || statusCode.is5xxServerError();
+    }
+
+    private void backoff(int attempt, long retryAfterMillis, String query, int status) {
+
+        long delay = RetryBackoff.delayMillis(attempt, retryAfterMillis, backoffBaseMs, backoffMaxMs);
+
+        log.info("Google 검색 재시도 대기: query={}, status={}, attempt={}, delay={}ms", query, status, attempt, delay);
+
+        RetryBackoff.sleep(delay);
 
     }
 
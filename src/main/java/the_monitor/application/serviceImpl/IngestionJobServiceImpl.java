@@ -0,0 +1,290 @@
+package the_monitor.application.serviceImpl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.application.dto.response.IngestionJobResponse;
+import the_monitor.application.service.ArticleIngestionService;
+import the_monitor.application.service.ArticleSearchService;
+import the_monitor.application.service.IngestionJobService;
+import the_monitor.common.ApiException;
+import the_monitor.common.ErrorStatus;
+import the_monitor.domain.enums.IngestionJobStatus;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.IngestionJob;
+import the_monitor.domain.model.Keyword;
+import the_monitor.domain.repository.IngestionJobRepository;
+import the_monitor.domain.repository.KeywordRepository;
+import the_monitor.infrastructure.security.CustomUserDetails;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class IngestionJobServiceImpl implements IngestionJobService {
+
+    private final IngestionJobRepository ingestionJobRepository;
+    private final KeywordRepository keywordRepository;
+    private final ArticleSearchService articleSearchService;
+    private final ArticleIngestionService articleIngestionService;
+    private final ThreadPoolTaskExecutor ingestionJobExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${ingestion.job.keyword-batch-size:4}")
+    private int keywordBatchSize;
+
+    // 검색 공급자 장애 시 첫 연기 시간, 이후 시도마다 두 배
+    @Value("${ingestion.job.defer-delay-ms:60000}")
+    private long deferDelayMs;
+
+    @Value("${ingestion.job.max-attempts:5}")
+    private int maxAttempts;
+
+    // 실행기에 제출되어 아직 끝나지 않은 작업 (중복 제출 방지)
+    private final Set<Long> inFlightJobs = ConcurrentHashMap.newKeySet();
+
+    // 수집 작업 등록
+    @Override
+    @Transactional
+    public Long enqueue(Long clientId, Long accountId) {
+
+        IngestionJob job = ingestionJobRepository.save(IngestionJob.builder()
+                .clientId(clientId)
+                .accountId(accountId)
+                .build());
+
+        Long jobId = job.getId();
+
+        // 클라이언트/키워드가 커밋된 뒤에 실행해야 작업 스레드에서 조회 가능
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(jobId);
+                }
+            });
+        } else {
+            submit(jobId);
+        }
+
+        return jobId;
+
+    }
+
+    // 수집 작업 진행 상황 조회
+    @Override
+    public IngestionJobResponse getJob(Long jobId) {
+
+        IngestionJob job = ingestionJobRepository.findByIdAndAccountId(jobId, getAccountIdFromAuthentication())
+                .orElseThrow(() -> new ApiException(ErrorStatus._INGESTION_JOB_NOT_FOUND));
+
+        return IngestionJobResponse.builder()
+                .jobId(job.getId())
+                .clientId(job.getClientId())
+                .status(job.getStatus())
+                .totalKeywords(job.getTotalKeywords())
+                .completedKeywords(job.getCompletedKeywords())
+                .storedArticles(job.getStoredArticles())
+                .errorMessage(job.getErrorMessage())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+
+    }
+
+    // 서버 재시작 시 끝나지 않은 작업 재실행 (기사 저장은 중복 제거되므로 재실행해도 안전)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+
+        List<IngestionJob> jobs = ingestionJobRepository.findAllByStatusIn(
+                List.of(IngestionJobStatus.PENDING, IngestionJobStatus.RUNNING));
+
+        if (!jobs.isEmpty()) {
+            log.info("미완료 수집 작업 {}건 재등록", jobs.size());
+        }
+        jobs.forEach(job -> submit(job.getId()));
+
+    }
+
+    // 큐가 가득 차 제출되지 못한 대기 작업과 재실행 시각이 된 연기 작업 재제출
+    @Scheduled(fixedDelayString = "${ingestion.job.resubmit-interval-ms:60000}")
+    public void resubmitPendingJobs() {
+
+        ingestionJobRepository.findAllByStatusIn(List.of(IngestionJobStatus.PENDING))
+                .forEach(job -> submit(job.getId()));
+
+        ingestionJobRepository.findAllByStatusAndNextAttemptAtLessThanEqual(IngestionJobStatus.DEFERRED, LocalDateTime.now())
+                .forEach(job -> submit(job.getId()));
+
+    }
+
+    private void submit(Long jobId) {
+
+        if (!inFlightJobs.add(jobId)) {
+            return;
+        }
+
+        try {
+            ingestionJobExecutor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    inFlightJobs.remove(jobId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // PENDING 상태로 남겨 두고 다음 주기에 재제출
+            inFlightJobs.remove(jobId);
+            log.warn("수집 작업 큐가 가득 차 대기합니다. jobId={}", jobId);
+        }
+
+    }
+
+    // 작업 스레드에서 실행: 검색은 트랜잭션 밖에서, 저장은 배치마다 짧은 트랜잭션으로 수행
+    private void run(Long jobId) {
+
+        try {
+            List<Keyword> keywords = transactionTemplate.execute(status -> {
+                IngestionJob job = ingestionJobRepository.findById(jobId).orElse(null);
+                if (job == null || job.getStatus() == IngestionJobStatus.COMPLETED || job.getStatus() == IngestionJobStatus.FAILED) {
+                    return null;
+                }
+
+                List<Keyword> clientKeywords = keywordRepository.findKeywordByAccountIdAndClientId(job.getAccountId(), job.getClientId());
+                job.start(clientKeywords.size());
+                return clientKeywords;
+            });
+
+            if (keywords == null) {
+                return;
+            }
+
+            Set<String> failedProviders = new TreeSet<>();
+
+            for (int from = 0; from < keywords.size(); from += keywordBatchSize) {
+                List<Keyword> batch = keywords.subList(from, Math.min(from + keywordBatchSize, keywords.size()));
+
+                // 배치 내 키워드는 동시에 검색
+                List<ArticleResponse> articleResponses = articleSearchService.search(batch, SearchPriority.BACKGROUND);
+                articleResponses.forEach(response -> failedProviders.addAll(response.getFailedProviders()));
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    // 검색 중 삭제된 키워드는 제외하고 영속 상태의 키워드로 저장
+                    List<Keyword> managedKeywords = keywordRepository.findAllById(batch.stream().map(Keyword::getId).toList());
+                    List<Keyword> savedKeywords = new ArrayList<>();
+                    List<ArticleResponse> savedResponses = new ArrayList<>();
+                    for (int i = 0; i < batch.size(); i++) {
+                        Long keywordId = batch.get(i).getId();
+                        ArticleResponse articleResponse = articleResponses.get(i);
+                        managedKeywords.stream()
+                                .filter(keyword -> keyword.getId().equals(keywordId))
+                                .findFirst()
+                                .ifPresent(keyword -> {
+                                    savedKeywords.add(keyword);
+                                    savedResponses.add(articleResponse);
+                                });
+                    }
+
+                    int stored = articleIngestionService.saveSearchResults(savedKeywords, savedResponses);
+
+                    ingestionJobRepository.findById(jobId)
+                            .ifPresent(job -> job.recordProgress(batch.size(), stored));
+                });
+            }
+
+            // 일부 공급자만 응답했으면 받은 기사는 저장해 두고 빠진 공급자 결과를 위해 작업을 연기
+            if (!failedProviders.isEmpty()) {
+                deferForPartialResults(jobId, failedProviders);
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(status ->
+                    ingestionJobRepository.findById(jobId).ifPresent(IngestionJob::complete));
+
+            log.info("수집 작업 완료. jobId={}, keywords={}", jobId, keywords.size());
+
+        } catch (ApiException e) {
+            if (!isSearchOutage(e)) {
+                failJob(jobId, e);
+                return;
+            }
+
+            // 검색 공급자 장애(서킷 열림, 사용량 초과 등)는 실패 대신 연기 후 재실행
+            transactionTemplate.executeWithoutResult(status -> ingestionJobRepository.findById(jobId).ifPresent(job -> {
+                if (job.getAttempts() >= maxAttempts) {
+                    job.fail(e.getMessage());
+                    return;
+                }
+                defer(job, e.getMessage());
+            }));
+
+        } catch (RuntimeException e) {
+            failJob(jobId, e);
+        }
+
+    }
+
+    // 재시도 횟수를 다 쓰면 받은 결과만으로 완료 (저장된 기사는 유지)
+    private void deferForPartialResults(Long jobId, Set<String> failedProviders) {
+
+        String message = "일부 검색 공급자 실패: " + String.join(", ", failedProviders);
+
+        transactionTemplate.executeWithoutResult(status -> ingestionJobRepository.findById(jobId).ifPresent(job -> {
+            if (job.getAttempts() >= maxAttempts) {
+                job.complete();
+                log.warn("{} 상태로 수집 작업 완료. jobId={}, attempts={}", message, jobId, job.getAttempts());
+                return;
+            }
+            defer(job, message);
+        }));
+
+    }
+
+    private void defer(IngestionJob job, String message) {
+        long delayMs = deferDelayMs << Math.min(job.getAttempts() - 1, 10);
+        job.defer(LocalDateTime.now().plus(Duration.ofMillis(delayMs)), message);
+        log.warn("검색 공급자 장애로 수집 작업 연기. jobId={}, attempts={}, delay={}ms, reason={}",
+                job.getId(), job.getAttempts(), delayMs, message);
+    }
+
+    private void failJob(Long jobId, RuntimeException e) {
+        log.error("수집 작업 실패. jobId={}", jobId, e);
+        transactionTemplate.executeWithoutResult(status ->
+                ingestionJobRepository.findById(jobId).ifPresent(job -> job.fail(e.getMessage())));
+    }
+
+    private boolean isSearchOutage(ApiException e) {
+        return e.getErrorStatus() == ErrorStatus._SEARCH_CIRCUIT_OPEN
+                || e.getErrorStatus() == ErrorStatus._SEARCH_BUSY
+                || e.getErrorStatus() == ErrorStatus._SEARCH_UNAVAILABLE
+                || e.getErrorStatus() == ErrorStatus._SEARCH_QUOTA_EXCEEDED;
+    }
+
+    private Long getAccountIdFromAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        return userDetails.getAccountId();
+    }
+
+}
@@ -0,0 +1,146 @@
+package the_monitor.application.serviceImpl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.application.service.ArticleIngestionService;
+import the_monitor.application.service.ArticleSearchService;
+import the_monitor.application.service.KeywordRecrawlService;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+import the_monitor.domain.repository.KeywordRepository;
+import the_monitor.infrastructure.utils.PublishDateParser;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KeywordRecrawlServiceImpl implements KeywordRecrawlService {
+
+    private final KeywordRepository keywordRepository;
+    private final ArticleSearchService articleSearchService;
+    private final ArticleIngestionService articleIngestionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${crawl.recrawl.enabled:true}")
+    private boolean enabled;
+
+    // 재수집 주기
+    @Value("${crawl.recrawl.interval-ms:3600000}")
+    private long intervalMs;
+
+    // 키워드 간 간격 대비 무작위 지연 비율
+    @Value("${crawl.recrawl.jitter-ratio:0.5}")
+    private double jitterRatio;
+
+    // 키워드당 최대 요청 페이지 수
+    @Value("${crawl.recrawl.max-pages:2}")
+    private int maxPages;
+
+    // 수집 이력이 없는 키워드의 조회 기간
+    @Value("${crawl.recrawl.initial-lookback-days:7}")
+    private int initialLookbackDays;
+
+    private final ScheduledExecutorService recrawlExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "keyword-recrawl");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 이전 주기에 예약되어 아직 실행되지 않은 재수집 수
+    private final AtomicInteger pendingRecrawls = new AtomicInteger();
+
+    @PreDestroy
+    void shutdownExecutor() {
+        recrawlExecutor.shutdownNow();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${crawl.recrawl.interval-ms:3600000}",
+            initialDelayString = "${crawl.recrawl.initial-delay-ms:300000}")
+    public void scheduleRecrawl() {
+
+        if (!enabled) {
+            return;
+        }
+
+        // 이전 주기가 아직 끝나지 않았으면 이번 주기는 건너뜀
+        if (pendingRecrawls.get() > 0) {
+            log.warn("이전 재수집이 {}건 남아 있어 이번 주기를 건너뜁니다.", pendingRecrawls.get());
+            return;
+        }
+
+        LocalDateTime now = PublishDateParser.now();
+
+        // 최근 반 주기 안에 수집되거나 생성된 키워드(생성 직후 수집 중 등)는 제외
+        Duration recentWindow = Duration.ofMillis(intervalMs / 2);
+        List<Keyword> keywords = keywordRepository.findRecrawlTargets(now.minus(recentWindow), LocalDateTime.now().minus(recentWindow));
+        if (keywords.isEmpty()) {
+            return;
+        }
+
+        // 키워드를 주기 전체에 고르게 분산하고 무작위 지연을 더해 요청 몰림 방지
+        long slotMs = intervalMs / keywords.size();
+        long maxJitterMs = (long) (slotMs * jitterRatio);
+
+        for (int i = 0; i < keywords.size(); i++) {
+            Keyword keyword = keywords.get(i);
+            long delayMs = i * slotMs + (maxJitterMs > 0 ? ThreadLocalRandom.current().nextLong(maxJitterMs) : 0);
+
+            LocalDateTime since = keyword.getLastCrawledAt() != null
+                    ? keyword.getLastCrawledAt()
+                    : now.minusDays(initialLookbackDays);
+
+            pendingRecrawls.incrementAndGet();
+            recrawlExecutor.schedule(() -> {
+                try {
+                    recrawl(keyword, since);
+                } finally {
+                    pendingRecrawls.decrementAndGet();
+                }
+            }, delayMs, TimeUnit.MILLISECONDS);
+        }
+
+        log.info("키워드 재수집 예약: {}건, 간격 {}ms", keywords.size(), slotMs);
+
+    }
+
+    // 워터마크 이후 기사만 조회하여 새 기사만 저장 (이전 재수집이 페이지 한도로 잘렸으면 남은 구간만 조회)
+    private void recrawl(Keyword target, LocalDateTime since) {
+
+        try {
+            LocalDateTime crawledAt = PublishDateParser.now();
+            ArticleResponse articleResponse = articleSearchService.searchSince(target, since, target.getRecrawlUntil(), maxPages, SearchPriority.BACKGROUND);
+
+            Integer stored = transactionTemplate.execute(status -> keywordRepository.findById(target.getId())
+                    .map(keyword -> articleIngestionService.saveRecrawlResults(List.of(keyword), List.of(articleResponse), crawledAt))
+                    .orElse(0));
+
+            if (articleResponse.isPartial()) {
+                log.warn("일부 검색 공급자 실패로 워터마크 유지. keyword={}, failedProviders={}, 신규 기사 {}건",
+                        target.getKeyword(), articleResponse.getFailedProviders(), stored);
+            } else {
+                log.debug("키워드 재수집 완료. keyword={}, 신규 기사 {}건", target.getKeyword(), stored);
+            }
+
+        } catch (RuntimeException e) {
+            // 실패한 키워드는 워터마크를 유지해 다음 주기에 같은 기간부터 다시 조회
+            log.warn("키워드 재수집 실패. keyword={}", target.getKeyword(), e);
+        }
+
+    }
+
+}
@@ -6,17 +6,18 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import the_monitor.application.dto.ArticleGoogleDto;
 import the_monitor.application.dto.request.KeywordUpdateRequest;
 import the_monitor.application.dto.response.ArticleResponse;
 import the_monitor.application.dto.response.KeywordAndIdResponse;
 import the_monitor.application.dto.response.KeywordResponse;
 import the_monitor.application.service.AccountService;
-import the_monitor.application.service.GoogleSearchService;
+import the_monitor.application.service.ArticleIngestionService;
+import the_monitor.application.service.ArticleSearchService;
 import the_monitor.application.service.KeywordService;
 import the_monitor.common.ApiException;
 import the_monitor.common.ErrorStatus;
 import the_monitor.domain.enums.CategoryType;
+import the_monitor.domain.enums.SearchPriority;
 import the_monitor.domain.model.Account;
 import the_monitor.domain.model.Client;
 import the_monitor.domain.model.Keyword;
@@ -26,6 +27,7 @@ import the_monitor.domain.repository.KeywordRepository;
 import the_monitor.infrastructure.security.CustomUserDetails;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -33,12 +35,15 @@ import java.util.*;
 @RequiredArgsConstructor
 public class KeywordServiceImpl implements KeywordService {
 
-    private final GoogleSearchService googleSearchService;
+    private static final int DELETE_BATCH_SIZE = 100;
+
+    private final ArticleSearchService articleSearchService;
     private final KeywordRepository keywordRepository;
     private final ClientRepository clientRepository;
     private final CategoryServiceImpl categoryServiceImpl;
     private final AccountService accountService;
     private final ArticleRepository articleRepository;
+    private final ArticleIngestionService articleIngestionService;
 
     // 키워드 조회
     @Override
@@ -80,32 +85,77 @@ public class KeywordServiceImpl implements KeywordService {
         Client client = clientRepository.findByIdAndAccountId(clientId, accountId)
                 .orElseThrow(() -> new ApiException(ErrorStatus._CLIENT_FORBIDDEN));
 
-        // Step 1: 기존 키워드와 연관된 기사 삭제
-        articleRepository.deleteByClientId(clientId);
-
-        // Step 2: 기존 키워드 삭제
-        keywordRepository.deleteAllByClientId(clientId);
+        // Step 1: 요청 키워드와 기존 키워드 비교
+        Map<CategoryType, Set<String>> requestedKeywords = normalizeRequestedKeywords(keywordUpdateRequest.getKeywordsByCategory());
+        List<Keyword> existingKeywords = keywordRepository.findKeywordByAccountIdAndClientId(accountId, clientId);
 
-        // Step 3: 새로운 키워드 저장
-        Map<CategoryType, List<String>> keywordsByCategory = keywordUpdateRequest.getKeywordsByCategory();
-        for (Map.Entry<CategoryType, List<String>> entry : keywordsByCategory.entrySet()) {
-            // 새로운 키워드 저장
-            categoryServiceImpl.saveCategoryWithKeywords(entry.getKey(), entry.getValue(), client);
+        // Step 2: 요청에서 빠진 키워드만 기사와 함께 삭제 (변경 없는 키워드의 기사와 읽음/스크랩/추가 상태는 유지)
+        List<Long> removedKeywordIds = existingKeywords.stream()
+                .filter(keyword -> !requestedKeywords.getOrDefault(keyword.getCategory().getCategoryType(), Set.of())
+                        .contains(keyword.getKeyword()))
+                .map(Keyword::getId)
+                .toList();
+        deleteKeywordsInBatches(removedKeywordIds);
+
+        // Step 3: 새로 추가된 키워드만 저장
+        List<Keyword> addedKeywords = new ArrayList<>();
+        for (Map.Entry<CategoryType, Set<String>> entry : requestedKeywords.entrySet()) {
+            Set<String> existingNames = existingKeywords.stream()
+                    .filter(keyword -> keyword.getCategory().getCategoryType() == entry.getKey())
+                    .map(Keyword::getKeyword)
+                    .collect(Collectors.toSet());
+
+            List<String> newNames = entry.getValue().stream()
+                    .filter(name -> !existingNames.contains(name))
+                    .toList();
+
+            if (!newNames.isEmpty()) {
+                addedKeywords.addAll(categoryServiceImpl.addKeywords(entry.getKey(), newNames, client));
+            }
         }
 
-        // Step 4: 저장된 키워드를 다시 조회
-        List<Keyword> savedKeywords = keywordRepository.findKeywordByAccountIdAndClientId(accountId, clientId);
-
-        // Step 5: 새로운 키워드에 대한 기사 저장
-        for (Keyword keyword : savedKeywords) {
-            saveArticlesForKeyword(keyword);
+        // Step 4: 새 키워드에 대해서만 기사 수집 (키워드별 검색은 동시에 수행)
+        if (!addedKeywords.isEmpty()) {
+            List<ArticleResponse> articleResponses = articleSearchService.search(addedKeywords, SearchPriority.INTERACTIVE);
+            articleIngestionService.saveSearchResults(addedKeywords, articleResponses);
         }
 
+        log.info("키워드 업데이트: 유지 {}개, 삭제 {}개, 추가 {}개",
+                existingKeywords.size() - removedKeywordIds.size(), removedKeywordIds.size(), addedKeywords.size());
+
         // 업데이트된 키워드 응답 반환
         return getKeywordResponses(accountId, clientId);
 
     }
 
+    // 카테고리별 요청 키워드의 공백/중복 제거
+    private Map<CategoryType, Set<String>> normalizeRequestedKeywords(Map<CategoryType, List<String>> keywordsByCategory) {
+
+        Map<CategoryType, Set<String>> requestedKeywords = new EnumMap<>(CategoryType.class);
+        if (keywordsByCategory == null) {
+            return requestedKeywords;
+        }
+
+        keywordsByCategory.forEach((categoryType, keywords) -> requestedKeywords.put(categoryType, keywords.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new))));
+
+        return requestedKeywords;
+
+    }
+
+    private void deleteKeywordsInBatches(List<Long> keywordIds) {
+
+        for (int from = 0; from < keywordIds.size(); from += DELETE_BATCH_SIZE) {
+            List<Long> batch = keywordIds.subList(from, Math.min(from + DELETE_BATCH_SIZE, keywordIds.size()));
+            articleRepository.deleteByKeywordIdIn(batch);
+            keywordRepository.deleteAllByIdInBatch(batch);
+        }
+
+    }
+
     private Long getAccountIdFromAuthentication() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
@@ -179,18 +229,4 @@ public class KeywordServiceImpl implements KeywordService {
                 .toList();
     }
 
-    @Transactional
-    public void saveArticlesForKeyword(Keyword keyword) {
-        saveArticlesFromGoogle(keyword);
-    }
-
-    private void saveArticlesFromGoogle(Keyword keyword) {
-        ArticleResponse articleResponse = googleSearchService.toDto(keyword.getKeyword());
-
-        for (ArticleGoogleDto dto : articleResponse.getGoogleArticles()) {
-
-            articleRepository.save(dto.toEntity(keyword));
-        }
-    }
-
 }
@@ -0,0 +1,484 @@
+package the_monitor.application.serviceImpl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import the_monitor.application.dto.response.MailOutboxResponse;
+import the_monitor.application.service.ExcelService;
+import the_monitor.application.service.MailOutboxService;
+import the_monitor.common.ApiException;
+import the_monitor.common.ErrorStatus;
+import the_monitor.domain.enums.MailStatus;
+import the_monitor.domain.model.MailOutbox;
+import the_monitor.domain.repository.MailOutboxRepository;
+import the_monitor.infrastructure.mail.AttachmentBuffer;
+import the_monitor.infrastructure.mail.DirectMemoryBudget;
+import the_monitor.infrastructure.security.CustomUserDetails;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+    private static final String FROM_ADDRESS = "themonitor2024@gmail.com";
+    private static final String FROM_NAME = "The Monitor";
+    private static final String ATTACHMENT_NAME = "report.xlsx";
+    private static final String EXCEL_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender javaMailSender;
+    private final ExcelService excelService;
+    private final ThreadPoolTaskExecutor mailOutboxExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final DirectMemoryBudget directMemoryBudget;
+
+    // 한 번의 SMTP 연결로 보내는 최대 메일 수
+    @Value("${mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    // 일시적 오류 시 첫 재시도 간격, 이후 시도마다 두 배
+    @Value("${mail.outbox.retry-delay-ms:30000}")
+    private long retryDelayMs;
+
+    // 첨부 파일을 힙에 둘 최대 크기, 넘으면 off-heap 버퍼로 이동
+    @Value("${mail.attachment.heap-threshold-bytes:1048576}")
+    private int attachmentHeapThreshold;
+
+    // 첨부 파일 최대 크기 (Gmail 첨부 한도 25MB)
+    @Value("${mail.attachment.max-bytes:26214400}")
+    private int attachmentMaxBytes;
+
+    // 일괄 발송 첨부 파일 캐시 전체 크기 상한
+    @Value("${mail.attachment.cache-max-bytes:268435456}")
+    private long attachmentCacheMaxBytes;
+
+    // 선점 후 이 시간이 지나도 결과가 없으면 작업자가 멈춘 것으로 보고 회수
+    @Value("${mail.outbox.sending-timeout-ms:600000}")
+    private long sendingTimeoutMs;
+
+    // 발송 완료/실패 메일 보존 기간
+    @Value("${mail.outbox.retention-days:30}")
+    private int retentionDays;
+
+    // 작업자 큐에 제출되어 아직 끝나지 않은 메일 (중복 제출 방지)
+    private final Set<Long> inFlightMails = ConcurrentHashMap.newKeySet();
+
+    private Cache<String, AttachmentBuffer> distributionAttachments;
+
+    @PostConstruct
+    void initAttachmentCache() {
+        this.distributionAttachments = Caffeine.newBuilder()
+                .maximumWeight(attachmentCacheMaxBytes)
+                .weigher((String key, AttachmentBuffer buffer) -> buffer.size())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                // 캐시가 보유한 참조 해제 (발송 중인 배치가 있으면 그 배치가 끝난 뒤 반납)
+                .removalListener((String key, AttachmentBuffer buffer, RemovalCause cause) -> {
+                    if (buffer != null) {
+                        buffer.release();
+                    }
+                })
+                .build();
+    }
+
+    // 메일 등록
+    @Override
+    @Transactional
+    public Long enqueue(Long accountId, List<String> toEmails, List<String> ccEmails, String subject, String body, Long reportId) {
+
+        if (toEmails == null || toEmails.isEmpty()) {
+            throw new ApiException(ErrorStatus._EMAIL_SEND_FAIL);
+        }
+
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.builder()
+                .accountId(accountId)
+                .toAddresses(toEmails)
+                .ccAddresses(ccEmails)
+                .subject(subject)
+                .body(body)
+                .reportId(reportId)
+                .build());
+
+        submitAfterCommit(List.of(mail.getId()));
+
+        return mail.getId();
+
+    }
+
+    // 일괄 메일 등록
+    @Override
+    @Transactional
+    public List<Long> enqueueAll(List<MailOutbox> mails) {
+
+        List<Long> mailIds = mailOutboxRepository.saveAll(mails).stream()
+                .map(MailOutbox::getId)
+                .toList();
+
+        submitAfterCommit(mailIds);
+
+        return mailIds;
+
+    }
+
+    // 메일 발송 상태 조회
+    @Override
+    public MailOutboxResponse getMail(Long mailId) {
+
+        MailOutbox mail = mailOutboxRepository.findByIdAndAccountId(mailId, getAccountIdFromAuthentication())
+                .orElseThrow(() -> new ApiException(ErrorStatus._MAIL_NOT_FOUND));
+
+        return buildMailResponse(mail);
+
+    }
+
+    // 일괄 발송 요청에 속한 수신자별 메일 상태 조회 (발송 요청 소유 확인은 호출 측에서 수행)
+    @Override
+    public List<MailOutboxResponse> getMailsByDistribution(Long distributionId) {
+
+        return mailOutboxRepository.findAllByDistributionIdOrderByIdAsc(distributionId).stream()
+                .map(this::buildMailResponse)
+                .toList();
+
+    }
+
+    private MailOutboxResponse buildMailResponse(MailOutbox mail) {
+
+        return MailOutboxResponse.builder()
+                .mailId(mail.getId())
+                .status(mail.getStatus())
+                .reportId(mail.getReportId())
+                .toEmails(mail.getToAddressList())
+                .ccEmails(mail.getCcAddressList())
+                .attempts(mail.getAttempts())
+                .lastError(mail.getLastError())
+                .nextAttemptAt(mail.getNextAttemptAt())
+                .sentAt(mail.getSentAt())
+                .build();
+
+    }
+
+    // 서버가 발송 도중 종료되어 SENDING으로 남은 메일을 다시 대기 상태로
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void releaseInterruptedMails() {
+
+        Integer released = transactionTemplate.execute(status -> mailOutboxRepository.releaseSending());
+        if (released != null && released > 0) {
+            log.info("발송 중단된 메일 {}건 재등록", released);
+        }
+
+    }
+
+    // 끝난 메일의 남은 본문을 비우고 보존 기간이 지난 메일 삭제
+    @Scheduled(cron = "${mail.outbox.retention-cron:0 30 4 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void purgeFinishedMails() {
+
+        Integer cleared = transactionTemplate.execute(status -> mailOutboxRepository.clearFinishedBodies());
+        Integer deleted = transactionTemplate.execute(status ->
+                mailOutboxRepository.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+
+        log.info("메일 발송 기록 정리: 본문 삭제 {}건, 기록 삭제 {}건", cleared, deleted);
+
+    }
+
+    // 발송 시각이 된 대기 메일을 작업자 큐가 허용하는 만큼 배치로 제출
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:5000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void dispatchDueMails() {
+
+        releaseStuckMails();
+
+        while (mailOutboxExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() > 0) {
+            List<Long> dueIds = mailOutboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (dueIds.isEmpty() || !submit(dueIds)) {
+                return;
+            }
+            if (dueIds.size() < batchSize) {
+                return;
+            }
+        }
+
+    }
+
+    // 작업자가 Error 등으로 결과를 기록하지 못해 SENDING으로 남은 메일을 재시도(횟수를 다 썼으면 실패) 처리
+    // 이 프로세스에서 아직 발송 중인 메일은 제외
+    private void releaseStuckMails() {
+
+        LocalDateTime claimedBefore = LocalDateTime.now().minus(Duration.ofMillis(sendingTimeoutMs));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (MailOutbox mail : mailOutboxRepository.findStuckSending(claimedBefore, PageRequest.of(0, batchSize))) {
+                if (inFlightMails.contains(mail.getId())) {
+                    continue;
+                }
+
+                String error = "발송 중 작업이 중단되어 결과가 기록되지 않았습니다.";
+                if (mail.getAttempts() >= maxAttempts) {
+                    mail.fail(error);
+                    log.error("발송 중 멈춘 메일 실패 처리. mailId={}, attempts={}", mail.getId(), mail.getAttempts());
+                } else {
+                    mail.retryAt(LocalDateTime.now(), error);
+                    log.warn("발송 중 멈춘 메일 재등록. mailId={}, attempts={}", mail.getId(), mail.getAttempts());
+                }
+            }
+        });
+
+    }
+
+    // 커밋된 뒤에 발송해야 작업 스레드에서 조회 가능 (큐가 가득 차면 다음 폴링 주기에 발송)
+    private void submitAfterCommit(List<Long> mailIds) {
+
+        Runnable submitAll = () -> {
+            for (int from = 0; from < mailIds.size(); from += batchSize) {
+                if (!submit(mailIds.subList(from, Math.min(from + batchSize, mailIds.size())))) {
+                    return;
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submitAll.run();
+                }
+            });
+        } else {
+            submitAll.run();
+        }
+
+    }
+
+    private boolean submit(List<Long> mailIds) {
+
+        List<Long> batch = mailIds.stream()
+                .filter(inFlightMails::add)
+                .toList();
+
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        try {
+            mailOutboxExecutor.execute(() -> {
+                try {
+                    sendBatch(batch);
+                } finally {
+                    batch.forEach(inFlightMails::remove);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            // PENDING 상태로 남겨 두고 다음 폴링 주기에 발송
+            batch.forEach(inFlightMails::remove);
+            log.warn("메일 발송 큐가 가득 차 대기합니다. mailIds={}", batch);
+            return false;
+        }
+
+    }
+
+    // 작업 스레드에서 실행: 선점한 메일을 한 번의 SMTP 연결로 발송하고 메일별 결과 기록
+    private void sendBatch(List<Long> mailIds) {
+
+        List<MailOutbox> mails = transactionTemplate.execute(status -> claim(mailIds));
+        if (mails == null || mails.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Exception> failures = new HashMap<>();
+        Map<MimeMessage, Long> messages = new LinkedHashMap<>();
+
+        // 같은 배치 안에서 같은 보고서의 첨부 파일은 한 번만 생성, 발송이 끝나면 배치가 잡은 참조를 해제
+        Map<Long, AttachmentBuffer> attachments = new HashMap<>();
+
+        try {
+            for (MailOutbox mail : mails) {
+                try {
+                    messages.put(buildMessage(mail, attachments), mail.getId());
+                } catch (MessagingException | IOException | RuntimeException e) {
+                    failures.put(mail.getId(), e);
+                }
+            }
+
+            if (!messages.isEmpty()) {
+                send(messages, failures);
+            }
+        } finally {
+            attachments.values().forEach(AttachmentBuffer::release);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> recordResults(mailIds, failures));
+
+    }
+
+    private List<MailOutbox> claim(List<Long> mailIds) {
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> claimed = mailIds.stream()
+                .filter(mailId -> mailOutboxRepository.claim(mailId, now) == 1)
+                .toList();
+
+        return claimed.isEmpty() ? List.of() : mailOutboxRepository.findAllById(claimed);
+
+    }
+
+    private void send(Map<MimeMessage, Long> messages, Map<Long, Exception> failures) {
+
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // 연결 실패 시에는 전체, 그 외에는 실패한 메일만 포함됨
+            e.getFailedMessages().forEach((message, cause) -> {
+                Long mailId = messages.get(message);
+                if (mailId != null) {
+                    failures.put(mailId, cause);
+                }
+            });
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(mailId -> failures.put(mailId, e));
+            }
+        } catch (MailException e) {
+            messages.values().forEach(mailId -> failures.put(mailId, e));
+        }
+
+    }
+
+    private MimeMessage buildMessage(MailOutbox mail, Map<Long, AttachmentBuffer> attachments) throws MessagingException, IOException {
+
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, mail.getReportId() != null, "utf-8");
+
+        helper.setFrom(FROM_ADDRESS, FROM_NAME);
+        helper.setTo(mail.getToAddressList().toArray(new String[0]));
+        if (!mail.getCcAddressList().isEmpty()) {
+            helper.setCc(mail.getCcAddressList().toArray(new String[0]));
+        }
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody(), true);
+
+        if (mail.getReportId() != null) {
+            AttachmentBuffer attachment = attachments.get(mail.getReportId());
+            if (attachment == null) {
+                attachment = getReportAttachment(mail);
+                attachments.put(mail.getReportId(), attachment);
+            }
+            helper.addAttachment(ATTACHMENT_NAME, attachment.toDataSource(ATTACHMENT_NAME, EXCEL_CONTENT_TYPE));
+        }
+
+        return mimeMessage;
+
+    }
+
+    // 일괄 발송 메일은 배치가 달라도 같은 발송 요청/보고서의 첨부 파일을 재사용해 보고서당 한 번만 생성
+    // 반환한 버퍼는 호출한 배치가 참조 하나를 보유 (캐시에서 방금 제거된 버퍼면 새로 생성)
+    private AttachmentBuffer getReportAttachment(MailOutbox mail) {
+
+        if (mail.getDistributionId() != null) {
+            AttachmentBuffer cached = distributionAttachments.get(mail.getDistributionId() + ":" + mail.getReportId(),
+                    key -> createReportAttachment(mail.getReportId()));
+            if (cached.retain()) {
+                return cached;
+            }
+        }
+
+        return createReportAttachment(mail.getReportId());
+
+    }
+
+    // 보고서 엑셀을 임시 파일 없이 메모리(큰 파일은 off-heap) 버퍼에 바로 생성
+    // off-heap 예산이 부족하면 할당하지 않고 이번 시도를 실패시켜 다음 주기에 재시도
+    private AttachmentBuffer createReportAttachment(Long reportId) {
+
+        AttachmentBuffer buffer = new AttachmentBuffer(attachmentHeapThreshold, attachmentMaxBytes, directMemoryBudget);
+        try {
+            excelService.writeExcel(reportId, buffer);
+        } catch (RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+
+        return buffer;
+
+    }
+
+    private void recordResults(List<Long> mailIds, Map<Long, Exception> failures) {
+
+        for (MailOutbox mail : mailOutboxRepository.findAllById(mailIds)) {
+            if (mail.getStatus() != MailStatus.SENDING) {
+                continue;
+            }
+
+            Exception failure = failures.get(mail.getId());
+            if (failure == null) {
+                mail.markSent();
+                continue;
+            }
+
+            String error = NestedExceptionUtils.getMostSpecificCause(failure).getMessage();
+            if (isPermanent(failure) || mail.getAttempts() >= maxAttempts) {
+                mail.fail(error);
+                log.error("메일 발송 실패. mailId={}, attempts={}", mail.getId(), mail.getAttempts(), failure);
+            } else {
+                long delayMs = retryDelayMs << Math.min(mail.getAttempts() - 1, 10);
+                mail.retryAt(LocalDateTime.now().plus(Duration.ofMillis(delayMs)), error);
+                log.warn("메일 발송 재시도 예정. mailId={}, attempts={}, delay={}ms, error={}", mail.getId(), mail.getAttempts(), delayMs, error);
+            }
+        }
+
+    }
+
+    // 주소 형식 오류, 첨부 파일 크기 초과, 삭제된 보고서 등 다시 보내도 실패할 오류
+    private boolean isPermanent(Exception e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        return (e instanceof ApiException apiException && apiException.getErrorStatus() == ErrorStatus._REPORT_NOT_FOUND)
+                || e instanceof MailPreparationException
+                || e instanceof MailParseException
+                || cause instanceof AddressException
+                || cause instanceof AttachmentBuffer.AttachmentSizeExceededException;
+    }
+
+    private Long getAccountIdFromAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        return userDetails.getAccountId();
+    }
+
+}
@@ -0,0 +1,334 @@
+package the_monitor.application.serviceImpl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.HtmlUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+import the_monitor.application.dto.ArticleGoogleDto;
+import the_monitor.application.dto.SearchPageDto;
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.application.service.NaverSearchService;
+import the_monitor.common.ApiException;
+import the_monitor.common.ErrorStatus;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+import the_monitor.infrastructure.cache.SearchResultCache;
+import the_monitor.infrastructure.ratelimit.RetryBackoff;
+import the_monitor.infrastructure.ratelimit.SearchRateLimiter;
+import the_monitor.infrastructure.resilience.SearchProviderGuard;
+import the_monitor.infrastructure.search.NaverSearchProvider;
+import the_monitor.infrastructure.utils.PublishDateParser;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+
+// Naver 검색 API (뉴스) 클라이언트
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NaverSearchServiceImpl implements NaverSearchService {
+
+    // Naver 뉴스 검색은 한 번에 최대 100건, start는 최대 1000
+    private static final int PAGE_SIZE = 100;
+    private static final int MAX_START = 1000;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final SearchRateLimiter searchRateLimiter;
+    private final SearchResultCache searchResultCache;
+    private final SearchProviderGuard searchProviderGuard;
+
+    @Value("${naver.api.client-id:}")
+    private String clientId;
+
+    @Value("${naver.api.client-secret:}")
+    private String clientSecret;
+
+    @Value("${naver.api.base-url:https://openapi.naver.com/v1/search/news.json}")
+    private String baseUrl;
+
+    @Value("${naver.api.requests-per-second:10}")
+    private double requestsPerSecond;
+
+    @Value("${naver.api.daily-quota:25000}")
+    private long dailyQuota;
+
+    @Value("${naver.api.client-concurrency:4}")
+    private int clientConcurrency;
+
+    @Value("${naver.api.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${naver.api.backoff-base-ms:500}")
+    private long backoffBaseMs;
+
+    @Value("${naver.api.backoff-max-ms:8000}")
+    private long backoffMaxMs;
+
+    private final ExecutorService searchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PostConstruct
+    void configureRateLimit() {
+        if (isConfigured()) {
+            searchRateLimiter.configure(clientId, requestsPerSecond, (int) Math.max(1, requestsPerSecond), dailyQuota);
+        }
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        searchExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return !clientId.isBlank() && !clientSecret.isBlank();
+    }
+
+    // 키워드별로 관련도순 한 페이지(100건) 조회
+    @Override
+    public List<ArticleResponse> toDtos(List<Keyword> keywords, SearchPriority priority) {
+
+        Semaphore clientPermits = new Semaphore(clientConcurrency);
+
+        List<Future<ArticleResponse>> results = new ArrayList<>();
+        for (Keyword keyword : keywords) {
+            results.add(searchExecutor.submit(() -> {
+                clientPermits.acquire();
+                try {
+                    SearchPageDto page = searchPage(keyword.getKeyword(), 1, "sim", priority);
+                    return ArticleResponse.builder()
+                            .googleArticles(page.getArticles())
+                            .totalResults(page.getTotalResults())
+                            .fetchedResults(page.getItemCount())
+                            .build();
+                } finally {
+                    clientPermits.release();
+                }
+            }));
+        }
+
+        List<ArticleResponse> responses = new ArrayList<>(results.size());
+        try {
+            for (Future<ArticleResponse> result : results) {
+                responses.add(result.get());
+            }
+            return responses;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Naver search interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Failed to search Naver: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            results.forEach(result -> result.cancel(true));
+        }
+
+    }
+
+    // 최신순으로 페이지를 넘기며 since 이전 기사가 나오면 중단
+    // 기간 검색이 없으므로 until이 있으면 until 이후 기사만 있는 페이지는 건너뛰며 maxPages에 포함하지 않음 (start 한도까지)
+    @Override
+    public ArticleResponse searchSince(String keyword, LocalDateTime since, LocalDateTime until, int maxPages, SearchPriority priority) {
+
+        List<ArticleGoogleDto> articles = new ArrayList<>();
+        int totalResults = 0;
+        int fetchedResults = 0;
+        int windowPages = 0;
+        boolean complete = false;
+        LocalDateTime oldestPublishedAt = null;
+
+        for (int page = 0; windowPages < maxPages && page * PAGE_SIZE + 1 <= MAX_START; page++) {
+            SearchPageDto searchPage = searchPage(keyword, page * PAGE_SIZE + 1, "date", priority);
+            totalResults = searchPage.getTotalResults();
+            fetchedResults += searchPage.getItemCount();
+
+            boolean reachedWatermark = false;
+            boolean inWindow = until == null;
+            for (ArticleGoogleDto article : searchPage.getArticles()) {
+                LocalDateTime publishedAt = PublishDateParser.parse(article.getPublishDate());
+                if (publishedAt != null && publishedAt.isBefore(since)) {
+                    reachedWatermark = true;
+                    continue;
+                }
+                if (publishedAt != null && until != null && publishedAt.isAfter(until)) {
+                    continue;
+                }
+                inWindow = true;
+                if (publishedAt != null && (oldestPublishedAt == null || publishedAt.isBefore(oldestPublishedAt))) {
+                    oldestPublishedAt = publishedAt;
+                }
+                articles.add(article);
+            }
+
+            if (reachedWatermark || searchPage.getItemCount() < PAGE_SIZE) {
+                complete = true;
+                break;
+            }
+            if (inWindow) {
+                windowPages++;
+            }
+        }
+
+        return ArticleResponse.builder()
+                .googleArticles(articles)
+                .totalResults(totalResults)
+                .fetchedResults(fetchedResults)
+                .completeSince(complete ? null : ArticleResponse.truncatedSince(since, oldestPublishedAt))
+                .build();
+
+    }
+
+    @Override
+    public long getRemainingDailyBudget() {
+        return isConfigured() ? searchRateLimiter.getRemainingDailyBudget(clientId) : 0;
+    }
+
+    private SearchPageDto searchPage(String query, int start, String sort, SearchPriority priority) {
+
+        String normalizedQuery = query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return searchResultCache.get("naver:" + normalizedQuery + ":" + start + ":" + sort, SearchPageDto.class,
+                () -> searchNews(query, start, sort, priority));
+
+    }
+
+    // 요청마다 서킷 브레이커/벌크헤드를 거쳐 호출, 429/5xx/연결 오류는 지수 백오프 후 재시도, 그 외 4xx는 즉시 실패
+    private SearchPageDto searchNews(String query, int start, String sort, SearchPriority priority) {
+
+        URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .queryParam("query", query)
+                .queryParam("display", PAGE_SIZE)
+                .queryParam("start", start)
+                .queryParam("sort", sort)
+                .encode()
+                .build()
+                .toUri();
+
+        for (int attempt = 1; ; attempt++) {
+            searchRateLimiter.acquire(clientId, priority);
+
+            try {
+                return searchProviderGuard.execute(NaverSearchProvider.NAME, () -> fetchNews(uri, query));
+
+            } catch (HttpStatusCodeException e) {
+                HttpStatusCode statusCode = e.getStatusCode();
+                if (attempt >= maxAttempts) {
+                    throw new ApiException(statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                            ? ErrorStatus._SEARCH_QUOTA_EXCEEDED
+                            : ErrorStatus._SEARCH_UNAVAILABLE);
+                }
+
+                RetryBackoff.sleep(RetryBackoff.delayMillis(attempt,
+                        RetryBackoff.retryAfterMillis(e.getResponseHeaders(), backoffMaxMs), backoffBaseMs, backoffMaxMs));
+
+            } catch (ResourceAccessException e) {
+                if (attempt >= maxAttempts) {
+                    throw new ApiException(ErrorStatus._SEARCH_UNAVAILABLE);
+                }
+
+                RetryBackoff.sleep(RetryBackoff.delayMillis(attempt, 0, backoffBaseMs, backoffMaxMs));
+            }
+        }
+
+    }
+
+    // 재시도할 수 없는 4xx는 공급자 장애로 세지 않도록 변환
+    private SearchPageDto fetchNews(URI uri, String query) {
+
+        try {
+            return restTemplate.execute(uri, HttpMethod.GET,
+                    request -> {
+                        request.getHeaders().set("X-Naver-Client-Id", clientId);
+                        request.getHeaders().set("X-Naver-Client-Secret", clientSecret);
+                    },
+                    response -> parseResponse(objectMapper.readTree(response.getBody())));
+        } catch (HttpStatusCodeException e) {
+            if (!isRetryable(e.getStatusCode())) {
+                log.warn("Naver 검색 요청 거부: status={}, query={}", e.getStatusCode(), query);
+                throw new ApiException(ErrorStatus._SEARCH_REQUEST_REJECTED);
+            }
+            throw e;
+        }
+
+    }
+
+    private boolean isRetryable(HttpStatusCode statusCode) {
+        return statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value() || statusCode.is5xxServerError();
+    }
+
+    // Naver 뉴스 항목을 공용 기사 DTO로 변환 (출판사는 원문 URL의 호스트, 게시일은 ISO-8601로 통일)
+    private SearchPageDto parseResponse(JsonNode root) {
+
+        List<ArticleGoogleDto> articles = new ArrayList<>();
+        JsonNode items = root.path("items");
+
+        for (JsonNode item : items) {
+            String originalLink = item.path("originallink").asText("");
+            String link = originalLink.isBlank() ? item.path("link").asText("") : originalLink;
+
+            articles.add(ArticleGoogleDto.builder()
+                    .title(stripHtml(item.path("title").asText("")))
+                    .body(stripHtml(item.path("description").asText("")))
+                    .url(link)
+                    .imageUrl("")
+                    .publisherName(publisherOf(link))
+                    .publishDate(toIsoDate(item.path("pubDate").asText("")))
+                    .reporterName("")
+                    .build());
+        }
+
+        return SearchPageDto.builder()
+                .articles(articles)
+                .totalResults((int) Math.min(Integer.MAX_VALUE, root.path("total").asLong(0)))
+                .itemCount(items.size())
+                .build();
+
+    }
+
+    // 검색어 강조 태그(<b>)와 HTML 엔티티 제거
+    private String stripHtml(String text) {
+        return HtmlUtils.htmlUnescape(text.replaceAll("<[^>]+>", ""));
+    }
+
+    private String publisherOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            if (host == null) {
+                return "";
+            }
+            return host.startsWith("www.") ? host.substring(4) : host;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    // pubDate(RFC 1123) -> ISO-8601 (Google metatags의 article:published_time과 같은 형식)
+    private String toIsoDate(String pubDate) {
+        try {
+            return OffsetDateTime.parse(pubDate, DateTimeFormatter.RFC_1123_DATE_TIME).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return pubDate;
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+package the_monitor.application.serviceImpl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
+import the_monitor.application.dto.request.ReportDistributionRequest;
+import the_monitor.application.dto.response.MailOutboxResponse;
+import the_monitor.application.dto.response.ReportDistributionResponse;
+import the_monitor.application.service.MailOutboxService;
+import the_monitor.application.service.ReportDistributionService;
+import the_monitor.common.ApiException;
+import the_monitor.common.ErrorStatus;
+import the_monitor.domain.enums.MailStatus;
+import the_monitor.domain.model.*;
+import the_monitor.domain.repository.ClientMailCCRepository;
+import the_monitor.domain.repository.ClientMailRecipientRepository;
+import the_monitor.domain.repository.MailDistributionRepository;
+import the_monitor.domain.repository.ReportRepository;
+import the_monitor.infrastructure.security.CustomUserDetails;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ReportDistributionServiceImpl implements ReportDistributionService {
+
+    private final ReportRepository reportRepository;
+    private final ClientMailRecipientRepository clientMailRecipientRepository;
+    private final ClientMailCCRepository clientMailCCRepository;
+    private final MailDistributionRepository mailDistributionRepository;
+    private final MailOutboxService mailOutboxService;
+
+    // 보고서 일괄 발송 등록
+    @Override
+    @Transactional
+    public ReportDistributionResponse distributeReports(ReportDistributionRequest request) {
+
+        Long accountId = getAccountId();
+        List<Long> reportIds = request.getReportIds().stream().distinct().toList();
+
+        // 1. 계정 소유 보고서 + 고객사 (1 쿼리)
+        Map<Long, Report> reports = reportRepository.findAllWithClientByIdInAndAccountId(reportIds, accountId).stream()
+                .collect(Collectors.toMap(Report::getId, report -> report));
+
+        if (reports.size() != reportIds.size()) {
+            throw new ApiException(ErrorStatus._REPORT_NOT_FOUND);
+        }
+
+        // 2. 고객사별 수신자/참조자 (각 1 쿼리)
+        Set<Long> clientIds = reports.values().stream()
+                .map(report -> report.getClient().getId())
+                .collect(Collectors.toSet());
+
+        Map<Long, List<String>> recipientsByClient = clientMailRecipientRepository.findAllByClientIdIn(clientIds).stream()
+                .collect(Collectors.groupingBy(recipient -> recipient.getClient().getId(),
+                        Collectors.mapping(ClientMailRecipient::getAddress, Collectors.toList())));
+
+        Map<Long, List<String>> ccsByClient = clientMailCCRepository.findAllByClientIdIn(clientIds).stream()
+                .collect(Collectors.groupingBy(cc -> cc.getClient().getId(),
+                        Collectors.mapping(ClientMailCC::getAddress, Collectors.toList())));
+
+        // 3. 수신자가 없는 고객사의 보고서는 제외하고 응답으로 알림
+        List<Long> skippedReportIds = reportIds.stream()
+                .filter(reportId -> !recipientsByClient.containsKey(reports.get(reportId).getClient().getId()))
+                .toList();
+
+        if (skippedReportIds.size() == reportIds.size()) {
+            throw new ApiException(ErrorStatus._MAIL_RECIPIENT_NOT_FOUND);
+        }
+        if (!skippedReportIds.isEmpty()) {
+            log.warn("수신자가 없어 일괄 발송에서 제외. reportIds={}", skippedReportIds);
+        }
+
+        // 4. 수신자별 메일 생성 (보고서 순서대로 등록되어 같은 보고서 메일이 한 배치로 묶임)
+        MailDistribution distribution = mailDistributionRepository.save(MailDistribution.builder()
+                .accountId(accountId)
+                .reportCount(reportIds.size() - skippedReportIds.size())
+                .skippedReportIds(skippedReportIds)
+                .build());
+
+        List<MailOutbox> mails = new ArrayList<>();
+        for (Long reportId : reportIds) {
+            Report report = reports.get(reportId);
+            Client client = report.getClient();
+
+            List<String> recipients = recipientsByClient.getOrDefault(client.getId(), List.of());
+            List<String> ccs = ccsByClient.getOrDefault(client.getId(), List.of());
+
+            if (recipients.isEmpty()) {
+                continue;
+            }
+
+            for (int i = 0; i < recipients.size(); i++) {
+                String recipient = recipients.get(i);
+                mails.add(MailOutbox.builder()
+                        .accountId(accountId)
+                        .toAddresses(List.of(recipient))
+                        // 참조자는 첫 수신자 메일에만 포함해 같은 보고서를 한 번만 받도록
+                        .ccAddresses(i == 0 ? ccs : List.of())
+                        .subject(personalize(request.getSubject(), client, report, recipient, false))
+                        .body(personalize(request.getContent(), client, report, recipient, true))
+                        .reportId(report.getId())
+                        .distributionId(distribution.getId())
+                        .build());
+            }
+        }
+
+        // 5. 발송 대기열에 등록 (커밋 후 작업자가 배치 단위로 발송)
+        mailOutboxService.enqueueAll(mails);
+        distribution.updateMailCount(mails.size());
+
+        return buildDistributionResponse(distribution, mailOutboxService.getMailsByDistribution(distribution.getId()));
+
+    }
+
+    // 일괄 발송 진행 상황 조회
+    @Override
+    public ReportDistributionResponse getDistribution(Long distributionId) {
+
+        MailDistribution distribution = mailDistributionRepository.findByIdAndAccountId(distributionId, getAccountId())
+                .orElseThrow(() -> new ApiException(ErrorStatus._MAIL_DISTRIBUTION_NOT_FOUND));
+
+        return buildDistributionResponse(distribution, mailOutboxService.getMailsByDistribution(distributionId));
+
+    }
+
+    private ReportDistributionResponse buildDistributionResponse(MailDistribution distribution, List<MailOutboxResponse> mails) {
+
+        Map<MailStatus, Long> statusCounts = new EnumMap<>(MailStatus.class);
+        mails.forEach(mail -> statusCounts.merge(mail.getStatus(), 1L, Long::sum));
+
+        return ReportDistributionResponse.builder()
+                .distributionId(distribution.getId())
+                .reportCount(distribution.getReportCount())
+                .mailCount(distribution.getMailCount())
+                .skippedReportIds(distribution.getSkippedReportIdList())
+                .statusCounts(statusCounts)
+                .mails(mails)
+                .build();
+
+    }
+
+    // 수신자별 제목/본문 치환 (HTML로 발송되는 본문에는 치환 값을 escape해서 삽입)
+    private String personalize(String template, Client client, Report report, String recipient, boolean html) {
+
+        if (template == null) {
+            return "";
+        }
+
+        return template
+                .replace("{{clientName}}", html ? HtmlUtils.htmlEscape(client.getName()) : client.getName())
+                .replace("{{reportTitle}}", html ? HtmlUtils.htmlEscape(report.getTitle()) : report.getTitle())
+                .replace("{{recipientEmail}}", html ? HtmlUtils.htmlEscape(recipient) : recipient);
+
+    }
+
+    private Long getAccountId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        return userDetails.getAccountId();
+    }
+
+}
@@ -13,11 +13,13 @@ import the_monitor.application.service.*;
 import the_monitor.common.ApiException;
 import the_monitor.common.ErrorStatus;
 import the_monitor.domain.enums.CategoryType;
+import the_monitor.domain.enums.ImageVariant;
 import the_monitor.domain.model.*;
 import the_monitor.domain.repository.ArticleRepository;
 import the_monitor.domain.repository.ReportArticleRepository;
 import the_monitor.domain.repository.ReportCategoryRepository;
 import the_monitor.domain.repository.ReportRepository;
+import the_monitor.infrastructure.persistence.JdbcReportArticleRepository;
 import the_monitor.infrastructure.security.CustomUserDetails;
 
 import java.time.format.DateTimeFormatter;
@@ -37,14 +39,14 @@ public class ReportServiceImpl implements ReportService {
     private final ReportArticleRepository reportArticleRepository;
 
     private final AccountService accountService;
-    private final ArticleService articleService;
     private final ClientService clientService;
     private final ScrapService scrapService;
 
-    private final S3Service s3Service;
+    private final StoredFileService storedFileService;
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private final ArticleRepository articleRepository;
+    private final JdbcReportArticleRepository jdbcReportArticleRepository;
 
     // 보고서 목록 조회
     @Override
@@ -77,12 +79,17 @@ public class ReportServiceImpl implements ReportService {
         String logoUrl = getLogoUrl(logo, client.getLogo());
 
         Report report = reportRepository.save(request.toEntity(client, logoUrl));
+
+        // 선택된 기사를 키워드와 함께 한 번에 조회
+        List<Long> articleIds = getArticleIdsByReportCreateRequest(request);
+        Map<Long, Article> articles = findArticlesWithKeyword(articleIds);
+
         // 각 카테고리별로 ReportArticle 생성 및 저장
-        createAndSaveReportArticlesByCategories(report, request);
+        createAndSaveReportArticlesByCategories(report, request, articles);
 
         scrapService.unScrapArticle();
 
-        updateAdded(request);
+        updateAdded(articles.keySet());
 
         return ReportCreateResponse.builder()
                 .reportId(report.getId())
@@ -97,7 +104,9 @@ public class ReportServiceImpl implements ReportService {
 
         Long clientId = getClientIdFromAuthentication();
 
-        validIsAccountAuthorizedForReport(getAccountFromId(getAccountId()), findByClientIdAndReportId(clientId, reportId));
+        Report report = findByClientIdAndReportId(clientId, reportId);
+        validIsAccountAuthorizedForReport(getAccountFromId(getAccountId()), report);
+        storedFileService.release(report.getLogo());
         reportRepository.deleteById(reportId);
         return "보고서 삭제 성공";
 
@@ -109,14 +118,23 @@ public class ReportServiceImpl implements ReportService {
 
         Long clientId = getClientIdFromAuthentication();
 
-        Report report = findByClientIdAndReportId(clientId, reportId);
-        validIsAccountAuthorizedForReport(getAccountFromId(getAccountId()), report);
+        // 보고서 + 고객사 + 소유 계정 (1 쿼리)
+        Report report = reportRepository.findDetailByClientIdAndReportId(clientId, reportId)
+                .orElseThrow(() -> new ApiException(ErrorStatus._REPORT_NOT_FOUND));
+
+        if (!report.getClient().getAccount().getId().equals(getAccountId())) {
+            throw new ApiException(ErrorStatus._REPORT_FORBIDDEN);
+        }
+
+        // 카테고리 + 기사 (1 쿼리)
+        List<ReportCategory> reportCategories = reportCategoryRepository.findWithArticlesByReportId(report.getId());
 
         return ReportDetailResponse.builder()
                 .color(report.getColor())
                 .logo(report.getLogo())
+                .headerLogo(storedFileService.getVariantUrl(report.getLogo(), ImageVariant.HEADER))
                 .title(report.getTitle())
-                .reportCategoryTypeResponses(List.of(buildCategoryTypeResponse(report.getReportCategories())))
+                .reportCategoryTypeResponses(List.of(buildCategoryTypeResponse(reportCategories)))
                 .build();
 
     }
@@ -224,6 +242,7 @@ public class ReportServiceImpl implements ReportService {
         validIsAccountAuthorizedForReport(getAccountFromId(getAccountId()), report);
 
         String logoUrl = getLogoUrl(logo, report.getClient().getLogo());
+        storedFileService.release(report.getLogo());
         report.updateLogo(logoUrl);
 
         return "보고서 로고 수정 완료";
@@ -421,7 +440,11 @@ public class ReportServiceImpl implements ReportService {
     }
 
     private String getLogoUrl(MultipartFile logo, String clientLogo) {
-        return (logo == null) ? clientLogo : s3Service.uploadFile(logo);
+        if (logo == null) {
+            storedFileService.retain(clientLogo); // 고객사 로고를 보고서도 참조
+            return clientLogo;
+        }
+        return storedFileService.store(logo);
     }
 
     // Account가 보고서에 권한이 있는지 확인
@@ -437,10 +460,11 @@ public class ReportServiceImpl implements ReportService {
     }
 
     // ReportCreateRequest로부터 ReportArticle 생성 및 저장
-    private void createAndSaveReportArticlesByCategories(Report report, ReportCreateRequest request) {
+    private void createAndSaveReportArticlesByCategories(Report report, ReportCreateRequest request, Map<Long, Article> articles) {
 
         // ReportCategory 리스트 생성
         List<ReportCategory> reportCategoryList = new ArrayList<>();
+        List<ReportArticle> reportArticles = new ArrayList<>();
 
         // 기본 카테고리 생성 및 저장
         ReportCategory selfDefaultCategory = reportCategoryRepository.save(setDefaultCategory(report, CategoryType.SELF.name()));
@@ -451,13 +475,13 @@ public class ReportServiceImpl implements ReportService {
         ReportCategoryTypeRequest categoryTypeRequest = request.getReportCategoryTypeRequest();
 
         // SELF 유형 처리
-        processCategoryType(report, categoryTypeRequest.getReportCategorySelfRequests(), CategoryType.SELF, reportCategoryList, selfDefaultCategory);
+        processCategoryType(report, categoryTypeRequest.getReportCategorySelfRequests(), CategoryType.SELF, reportCategoryList, selfDefaultCategory, articles, reportArticles);
 
         // COMPETITOR 유형 처리
-        processCategoryType(report, categoryTypeRequest.getReportCategoryCompetitorRequests(), CategoryType.COMPETITOR, reportCategoryList, competitorDefault);
+        processCategoryType(report, categoryTypeRequest.getReportCategoryCompetitorRequests(), CategoryType.COMPETITOR, reportCategoryList, competitorDefault, articles, reportArticles);
 
         // INDUSTRY 유형 처리
-        processCategoryType(report, categoryTypeRequest.getReportCategoryIndustryRequests(), CategoryType.INDUSTRY, reportCategoryList, industryDefault);
+        processCategoryType(report, categoryTypeRequest.getReportCategoryIndustryRequests(), CategoryType.INDUSTRY, reportCategoryList, industryDefault, articles, reportArticles);
 
         // 추가된 ReportCategory 리스트를 Report에 연결
         report.addReportCategories(reportCategoryList);
@@ -467,28 +491,30 @@ public class ReportServiceImpl implements ReportService {
         report.addReportCategory(competitorDefault);
         report.addReportCategory(industryDefault);
 
+        // 사용자 카테고리를 먼저 저장해 id를 확보한 뒤 기사는 JDBC로 일괄 INSERT
+        reportCategoryRepository.saveAll(reportCategoryList);
+        jdbcReportArticleRepository.insertAll(reportArticles);
+
     }
 
     private void processCategoryType(Report report,
                                      List<ReportCategoryRequest> categoryRequests,
                                      CategoryType categoryType,
                                      List<ReportCategory> reportCategoryList,
-                                     ReportCategory defaultCategory) {
+                                     ReportCategory defaultCategory,
+                                     Map<Long, Article> articles,
+                                     List<ReportArticle> reportArticles) {
 
         categoryRequests.forEach(categoryRequest -> {
 
             if (Objects.equals(categoryRequest.getReportCategoryName(), "default")) {
 
-                List<ReportArticle> reportArticles = createReportArticles(categoryRequest, defaultCategory);
-
-                defaultCategory.addReportArticles(reportArticles);
+                reportArticles.addAll(createReportArticles(categoryRequest, defaultCategory, articles));
 
             } else {
                 ReportCategory reportCategory = createReportCategory(report, categoryRequest, categoryType);
 
-                List<ReportArticle> reportArticles = createReportArticles(categoryRequest, reportCategory);
-
-                reportCategory.addReportArticles(reportArticles);
+                reportArticles.addAll(createReportArticles(categoryRequest, reportCategory, articles));
 
                 reportCategoryList.add(reportCategory);
             }
@@ -502,19 +528,15 @@ public class ReportServiceImpl implements ReportService {
 
     }
 
-    private List<ReportArticle> createReportArticles(ReportCategoryRequest categoryRequest, ReportCategory reportCategory) {
+    private List<ReportArticle> createReportArticles(ReportCategoryRequest categoryRequest, ReportCategory reportCategory, Map<Long, Article> articles) {
 
         return categoryRequest.getArticleId().stream()
-                .map(articleId -> {
-                    return copyReportArticleFromArticle(articleId, reportCategory);
-                })
+                .map(articleId -> copyReportArticleFromArticle(articles.get(articleId), reportCategory))
                 .collect(Collectors.toList());
 
     }
 
-    private ReportArticle copyReportArticleFromArticle(Long articleId, ReportCategory reportCategory) {
-
-        Article article = articleService.findArticleById(articleId);
+    private ReportArticle copyReportArticleFromArticle(Article article, ReportCategory reportCategory) {
 
         return ReportArticle.builder()
                 .title(article.getTitle())
@@ -612,14 +634,29 @@ public class ReportServiceImpl implements ReportService {
 
     }
 
-    private void updateAdded(ReportCreateRequest request) {
+    // 요청된 기사 id를 모두 조회하지 못하면 기존과 동일하게 _ARTICLE_NOT_FOUND
+    private Map<Long, Article> findArticlesWithKeyword(List<Long> articleIds) {
 
-        List<Long> articleIds = getArticleIdsByReportCreateRequest(request);
+        Set<Long> distinctIds = new HashSet<>(articleIds);
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Article> articles = articleRepository.findAllWithKeywordByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(Article::getId, article -> article));
+
+        if (articles.size() != distinctIds.size()) {
+            throw new ApiException(ErrorStatus._ARTICLE_NOT_FOUND);
+        }
+
+        return articles;
+
+    }
+
+    private void updateAdded(Set<Long> articleIds) {
 
-        for (Long articleId : articleIds) {
-            Article article = articleService.findArticleById(articleId);
-            article.setAddedStatus(true);
-            articleRepository.save(article);
+        if (!articleIds.isEmpty()) {
+            articleRepository.markAddedByIdIn(articleIds);
         }
 
     }
@@ -0,0 +1,214 @@
+package the_monitor.application.serviceImpl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import the_monitor.application.dto.response.KeywordPagingMetricsResponse;
+import the_monitor.application.dto.response.ProviderMetricsResponse;
+import the_monitor.application.dto.response.SearchMetricsResponse;
+import the_monitor.application.service.SearchMetricsService;
+import the_monitor.common.ApiException;
+import the_monitor.common.ErrorStatus;
+import the_monitor.domain.model.Account;
+import the_monitor.domain.model.Keyword;
+import the_monitor.domain.repository.AccountRepository;
+import the_monitor.domain.repository.KeywordRepository;
+import the_monitor.infrastructure.http.OutboundHttpMetrics;
+import the_monitor.infrastructure.resilience.SearchProviderGuard;
+import the_monitor.infrastructure.security.CustomUserDetails;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@RequiredArgsConstructor
+public class SearchMetricsServiceImpl implements SearchMetricsService {
+
+    private final OutboundHttpMetrics outboundHttpMetrics;
+    private final SearchProviderGuard searchProviderGuard;
+    private final AccountRepository accountRepository;
+    private final KeywordRepository keywordRepository;
+
+    @Value("${search.metrics.max-keywords:10000}")
+    private long maxKeywords;
+
+    // 이 기간 동안 검색되지 않은 키워드의 카운터는 제거
+    @Value("${search.metrics.keyword-ttl-hours:24}")
+    private long keywordTtlHours;
+
+    // 키워드 ID별 페이징 카운터 (개수와 보존 기간 제한)
+    private Cache<Long, KeywordPagingCounters> keywordCounters;
+
+    // 검색 결과 캐시 카운터
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder redisCacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    // 검색 공급자별 카운터
+    private final ConcurrentMap<String, ProviderCounters> providerCounters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initKeywordCounters() {
+        this.keywordCounters = Caffeine.newBuilder()
+                .maximumSize(maxKeywords)
+                .expireAfterAccess(Duration.ofHours(keywordTtlHours))
+                .build();
+    }
+
+    @Override
+    public void recordPaging(Long keywordId, int pagesRequested, int pagesSkipped, int itemsFetched) {
+
+        KeywordPagingCounters counters = keywordCounters.get(keywordId, key -> new KeywordPagingCounters());
+
+        counters.searchCount.increment();
+        counters.pagesRequested.add(pagesRequested);
+        counters.pagesSkipped.add(pagesSkipped);
+        counters.itemsFetched.add(itemsFetched);
+        counters.lastItemsFetched.set(itemsFetched);
+
+    }
+
+    @Override
+    public void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    @Override
+    public void recordRedisCacheHit() {
+        redisCacheHits.increment();
+    }
+
+    @Override
+    public void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    @Override
+    public void recordProviderCall(String provider, long latencyNanos, boolean success, int articlesReturned, long remainingDailyBudget) {
+
+        ProviderCounters counters = providerCounters.computeIfAbsent(provider, key -> new ProviderCounters());
+
+        counters.calls.increment();
+        if (!success) {
+            counters.failures.increment();
+        }
+        counters.latencyNanos.add(latencyNanos);
+        counters.articlesReturned.add(articlesReturned);
+        counters.remainingDailyBudget.set(remainingDailyBudget);
+
+    }
+
+    @Override
+    public SearchMetricsResponse getSearchMetrics() {
+
+        // 키워드 지표는 다른 고객사의 키워드가 노출되지 않도록 호출한 계정이 선택한 고객사 것만 반환
+        Account account = accountRepository.findById(getAccountIdFromAuthentication())
+                .orElseThrow(() -> new ApiException(ErrorStatus._ACCOUNT_NOT_FOUND));
+        List<Keyword> clientKeywords = account.getSelectedClientId() == null
+                ? List.of()
+                : keywordRepository.findKeywordByAccountIdAndClientId(account.getId(), account.getSelectedClientId());
+
+        List<KeywordPagingMetricsResponse> keywords = clientKeywords.stream()
+                .map(keyword -> toKeywordMetrics(keyword, keywordCounters.getIfPresent(keyword.getId())))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(KeywordPagingMetricsResponse::getKeyword))
+                .toList();
+
+        long hits = cacheHits.sum();
+        long redisHits = redisCacheHits.sum();
+        long misses = cacheMisses.sum();
+        long lookups = hits + redisHits + misses;
+
+        return SearchMetricsResponse.builder()
+                .totalPagesRequested(keywords.stream().mapToLong(KeywordPagingMetricsResponse::getPagesRequested).sum())
+                .totalPagesSkipped(keywords.stream().mapToLong(KeywordPagingMetricsResponse::getPagesSkipped).sum())
+                .cacheHits(hits)
+                .redisCacheHits(redisHits)
+                .cacheMisses(misses)
+                .cacheHitRatio(lookups == 0 ? 0 : (double) (hits + redisHits) / lookups)
+                .keywords(keywords)
+                .providers(getProviderMetrics())
+                .outboundHosts(outboundHttpMetrics.getHostMetrics())
+                .build();
+
+    }
+
+    private List<ProviderMetricsResponse> getProviderMetrics() {
+
+        return providerCounters.entrySet().stream()
+                .map(entry -> {
+                    ProviderCounters counters = entry.getValue();
+                    long calls = counters.calls.sum();
+                    return ProviderMetricsResponse.builder()
+                            .provider(entry.getKey())
+                            .circuitState(searchProviderGuard.getState(entry.getKey()).name())
+                            .calls(calls)
+                            .failures(counters.failures.sum())
+                            .averageLatencyMs(calls == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(counters.latencyNanos.sum() / calls))
+                            .articlesReturned(counters.articlesReturned.sum())
+                            .remainingDailyBudget(counters.remainingDailyBudget.get())
+                            .build();
+                })
+                .sorted(Comparator.comparing(ProviderMetricsResponse::getProvider))
+                .toList();
+
+    }
+
+    private KeywordPagingMetricsResponse toKeywordMetrics(Keyword keyword, KeywordPagingCounters counters) {
+
+        if (counters == null) {
+            return null;
+        }
+
+        return KeywordPagingMetricsResponse.builder()
+                .keywordId(keyword.getId())
+                .keyword(keyword.getKeyword())
+                .searchCount(counters.searchCount.sum())
+                .pagesRequested(counters.pagesRequested.sum())
+                .pagesSkipped(counters.pagesSkipped.sum())
+                .itemsFetched(counters.itemsFetched.sum())
+                .lastItemsFetched(counters.lastItemsFetched.get())
+                .build();
+
+    }
+
+    private Long getAccountIdFromAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        return userDetails.getAccountId();
+    }
+
+    private static class KeywordPagingCounters {
+
+        private final LongAdder searchCount = new LongAdder();
+        private final LongAdder pagesRequested = new LongAdder();
+        private final LongAdder pagesSkipped = new LongAdder();
+        private final LongAdder itemsFetched = new LongAdder();
+        private final AtomicInteger lastItemsFetched = new AtomicInteger();
+
+    }
+
+    private static class ProviderCounters {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final LongAdder articlesReturned = new LongAdder();
+        private final AtomicLong remainingDailyBudget = new AtomicLong(-1);
+
+    }
+
+}
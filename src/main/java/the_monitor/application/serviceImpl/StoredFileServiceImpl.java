@@ -0,0 +1,267 @@
+package the_monitor.application.serviceImpl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import the_monitor.application.service.S3Service;
+import the_monitor.application.service.StoredFileService;
+import the_monitor.common.ApiException;
+import the_monitor.common.ErrorStatus;
+import the_monitor.domain.enums.ImageVariant;
+import the_monitor.domain.model.StoredFile;
+import the_monitor.domain.repository.StoredFileRepository;
+import the_monitor.infrastructure.image.ImageResizer;
+import the_monitor.infrastructure.utils.ContentHashUtil;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StoredFileServiceImpl implements StoredFileService {
+
+    private static final String KEY_PREFIX = "images/";
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("[a-z0-9]{1,5}");
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final StoredFileRepository storedFileRepository;
+    private final S3Service s3Service;
+    private final ImageResizer imageResizer;
+    private final ThreadPoolTaskExecutor imageVariantExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    // 참조 수가 0이 된 뒤 S3 객체를 지우기까지의 유예 기간 (그 사이 다시 올린 같은 내용은 그대로 재사용)
+    @Value("${storage.file.sweep-grace-ms:3600000}")
+    private long sweepGraceMs;
+
+    @Override
+    public String store(MultipartFile file) {
+
+        String sha256 = hash(file);
+
+        // 같은 내용이 이미 등록돼 있으면 업로드 없이 참조만 추가
+        Optional<StoredFile> existing = storedFileRepository.findBySha256(sha256);
+        if (existing.isPresent() && storedFileRepository.incrementRefCount(existing.get().getUrl()) > 0) {
+            if (existing.get().getVariantFormat() == null) {
+                afterCommit(() -> submitVariants(sha256)); // 이전 변환이 실패/거부됐으면 다시 시도
+            }
+            return existing.get().getUrl();
+        }
+
+        String objectKey = KEY_PREFIX + sha256 + extensionOf(file.getOriginalFilename());
+        String url = s3Service.uploadFile(objectKey, file);
+
+        // 동시에 같은 내용이 먼저 등록됐다면 그 행의 참조 수만 증가
+        storedFileRepository.upsertReference(sha256, objectKey, url, file.getContentType(), file.getSize());
+
+        // 표준 크기 이미지는 커밋 후 작업 스레드에서 S3 원본을 읽어 생성
+        afterCommit(() -> submitVariants(sha256));
+
+        return storedFileRepository.findBySha256(sha256).map(StoredFile::getUrl).orElse(url);
+
+    }
+
+    @Override
+    public void retain(String url) {
+
+        if (url != null) {
+            storedFileRepository.incrementRefCount(url);
+        }
+
+    }
+
+    // 행은 바로 지우지 않음: 같은 내용을 다시 올리면 이 행의 참조 수만 올라가 S3 객체를 그대로 재사용
+    @Override
+    public void release(String url) {
+
+        if (url != null && storedFileRepository.decrementRefCount(url) > 0) {
+            storedFileRepository.markReleased(url, LocalDateTime.now());
+        }
+
+    }
+
+    // 행 잠금 안에서 참조 수를 다시 확인한 뒤 S3 객체 -> 행 순서로 삭제
+    // 정리 중인 행에 대한 store()는 잠금이 풀린 뒤 참조 수 증가가 실패해 새 행으로 다시 업로드
+    @Override
+    @Scheduled(fixedDelayString = "${storage.file.sweep-interval-ms:600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sweepReleasedFiles() {
+
+        LocalDateTime releasedBefore = LocalDateTime.now().minus(Duration.ofMillis(sweepGraceMs));
+        List<Long> releasedIds = storedFileRepository.findReleasedIds(releasedBefore, PageRequest.of(0, SWEEP_BATCH_SIZE));
+
+        int deleted = 0;
+        for (Long id : releasedIds) {
+            Boolean removed = transactionTemplate.execute(status -> storedFileRepository.findByIdForUpdate(id)
+                    .filter(storedFile -> storedFile.getRefCount() == 0)
+                    .map(storedFile -> {
+                        s3Service.deleteFileQuietly(storedFile.getObjectKey());
+                        variantKeys(storedFile.getObjectKey(), storedFile.getVariantFormat()).forEach(s3Service::deleteFileQuietly);
+                        storedFileRepository.delete(storedFile);
+                        return true;
+                    })
+                    .orElse(false));
+            if (Boolean.TRUE.equals(removed)) {
+                deleted++;
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("참조가 없는 파일 정리: {}건", deleted);
+        }
+
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getVariantUrl(String url, ImageVariant variant) {
+
+        if (url == null) {
+            return null;
+        }
+        return getVariantUrls(List.of(url), variant).getOrDefault(url, url);
+
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, String> getVariantUrls(Collection<String> urls, ImageVariant variant) {
+
+        List<String> distinctUrls = urls.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctUrls.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, String> variantUrls = storedFileRepository.findAllWithVariantsByUrlIn(distinctUrls).stream()
+                .collect(Collectors.toMap(StoredFile::getUrl,
+                        storedFile -> s3Service.getFileUrl(variantKey(storedFile.getObjectKey(), variant, storedFile.getVariantFormat()))));
+
+        // 변환본이 없으면(생성 전, 이미지 아님, 이전 방식으로 올린 파일) 원본 URL
+        distinctUrls.forEach(url -> variantUrls.putIfAbsent(url, url));
+        return variantUrls;
+
+    }
+
+    private void submitVariants(String sha256) {
+
+        try {
+            imageVariantExecutor.execute(() -> generateVariants(sha256));
+        } catch (TaskRejectedException e) {
+            log.warn("이미지 변환 대기열이 가득 차 원본만 사용: sha256={}", sha256);
+        }
+
+    }
+
+    // 작업 스레드에서 실행: 원본을 한 번만 디코딩해 모든 크기를 생성
+    private void generateVariants(String sha256) {
+
+        StoredFile storedFile = storedFileRepository.findBySha256(sha256).orElse(null);
+        if (storedFile == null || storedFile.getVariantFormat() != null) {
+            return;
+        }
+
+        String objectKey = storedFile.getObjectKey();
+        try (InputStream inputStream = s3Service.openFile(objectKey)) {
+            BufferedImage source = imageResizer.read(inputStream);
+            if (source == null) {
+                log.info("변환할 수 없는 이미지 형식이라 원본만 사용: key={}", objectKey);
+                return;
+            }
+
+            String format = imageResizer.formatOf(source);
+            String contentType = ImageResizer.PNG.equals(format) ? "image/png" : "image/jpeg";
+            for (ImageVariant variant : ImageVariant.values()) {
+                s3Service.uploadBytes(variantKey(objectKey, variant, format), imageResizer.resize(source, variant, format), contentType);
+            }
+
+            Integer updated = transactionTemplate.execute(status -> storedFileRepository.markVariantsReady(sha256, format));
+
+            // 변환 중에 참조가 모두 해제돼 행이 삭제됐으면 방금 올린 변환본도 정리
+            if (updated == null || updated == 0) {
+                variantKeys(objectKey, format).forEach(s3Service::deleteFileQuietly);
+            }
+        } catch (IOException | ApiException e) {
+            log.warn("이미지 변환 실패, 원본만 사용: key={}", objectKey, e);
+        }
+
+    }
+
+    private void afterCommit(Runnable task) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+
+    }
+
+    private List<String> variantKeys(String objectKey, String format) {
+
+        if (format == null) {
+            return List.of();
+        }
+        return Arrays.stream(ImageVariant.values())
+                .map(variant -> variantKey(objectKey, variant, format))
+                .toList();
+
+    }
+
+    // images/<sha256>.png -> images/<sha256>_header.jpg
+    private String variantKey(String objectKey, ImageVariant variant, String format) {
+
+        int extensionIndex = objectKey.lastIndexOf('.');
+        String baseKey = extensionIndex > objectKey.lastIndexOf('/') ? objectKey.substring(0, extensionIndex) : objectKey;
+        return baseKey + "_" + variant.getSuffix() + "." + format;
+
+    }
+
+    private String hash(MultipartFile file) {
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return ContentHashUtil.sha256Hex(inputStream);
+        } catch (IOException e) {
+            throw new ApiException(ErrorStatus._FILE_UPLOAD_FAILED);
+        }
+
+    }
+
+    private String extensionOf(String fileName) {
+
+        if (fileName == null || fileName.lastIndexOf('.') < 0) {
+            return "";
+        }
+
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION_PATTERN.matcher(extension).matches() ? "." + extension : "";
+
+    }
+
+}
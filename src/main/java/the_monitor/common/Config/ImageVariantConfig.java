@@ -0,0 +1,31 @@
+package the_monitor.common.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImageVariantConfig {
+
+    @Value("${image.variant.workers:2}")
+    private int workers;
+
+    @Value("${image.variant.queue-capacity:50}")
+    private int queueCapacity;
+
+    // 이미지 변환 전용 실행기 (디코딩한 원본이 메모리를 크게 차지하므로 동시 작업 수를 제한)
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+}
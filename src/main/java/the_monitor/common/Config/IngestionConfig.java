@@ -0,0 +1,33 @@
+package the_monitor.common.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class IngestionConfig {
+
+    @Value("${ingestion.job.core-pool-size:2}")
+    private int corePoolSize;
+
+    @Value("${ingestion.job.max-pool-size:4}")
+    private int maxPoolSize;
+
+    @Value("${ingestion.job.queue-capacity:200}")
+    private int queueCapacity;
+
+    // 기사 수집 작업 전용 실행기 (Tomcat 요청 스레드와 분리)
+    @Bean
+    public ThreadPoolTaskExecutor ingestionJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ingestion-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+}
@@ -0,0 +1,31 @@
+package the_monitor.common.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class MailOutboxConfig {
+
+    @Value("${mail.outbox.workers:2}")
+    private int workers;
+
+    @Value("${mail.outbox.queue-capacity:20}")
+    private int queueCapacity;
+
+    // 메일 발송 전용 실행기 (동시 SMTP 연결 수 = 작업자 수)
+    @Bean
+    public ThreadPoolTaskExecutor mailOutboxExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mail-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+}
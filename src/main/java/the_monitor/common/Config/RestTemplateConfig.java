@@ -1,15 +1,52 @@
 package the_monitor.common.Config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import the_monitor.infrastructure.http.OutboundHttpMetrics;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
 
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
-    
+
+    private final OutboundHttpMetrics outboundHttpMetrics;
+
+    @Value("${http.client.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${http.client.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    // HTTP_2 또는 HTTP_1_1, HTTP/2를 지원하지 않는 서버는 자동으로 HTTP/1.1 사용
+    @Value("${http.client.version:HTTP_2}")
+    private HttpClient.Version version;
+
+    // 외부 API 공용 클라이언트: 호스트별 연결을 재사용(keep-alive)하고 HTTP/2에서는 한 연결로 다중 요청
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient outboundHttpClient() {
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(HttpClient outboundHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(outboundHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(outboundHttpMetrics);
+        return restTemplate;
     }
 
 }
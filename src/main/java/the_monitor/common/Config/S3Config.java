@@ -2,12 +2,16 @@ package the_monitor.common.Config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
-import com.amazonaws.regions.Regions;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class S3Config {
@@ -21,13 +25,48 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // MinIO 등 S3 호환 로컬 저장소를 쓸 때만 지정 (비어 있으면 AWS S3)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 이 크기 이상은 멀티파트 업로드
+    @Value("${cloud.aws.s3.multipart-threshold-bytes:16777216}")
+    private long multipartThreshold;
+
+    @Value("${cloud.aws.s3.multipart-part-size-bytes:8388608}")
+    private long multipartPartSize;
+
     @Bean
     public AmazonS3 amazonS3() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
 
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+
+        if (StringUtils.hasText(endpoint)) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(region);
+        }
+
+        return builder.build();
+    }
+
+    // 큰 파일 업로드용 (InputStream 업로드는 파트를 순서대로 전송, 재시도가 파트 단위로 이뤄짐)
+    // 종료는 아래 transferManagerShutdown에서 처리 (기본 shutdownNow()는 공유 AmazonS3 클라이언트까지 종료)
+    @Bean(destroyMethod = "")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withMinimumUploadPartSize(multipartPartSize)
                 .build();
     }
+
+    // 전송 스레드 풀만 종료하고 AmazonS3 빈은 남겨 둠 (종료 중인 다른 빈이 S3를 계속 쓸 수 있도록)
+    @Bean
+    public DisposableBean transferManagerShutdown(TransferManager transferManager) {
+        return () -> transferManager.shutdownNow(false);
+    }
 }
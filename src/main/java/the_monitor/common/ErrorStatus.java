@@ -55,6 +55,21 @@ public enum ErrorStatus implements BaseErrorCode {
 
     // ReportCategory
     _REPORT_CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "REPORT404", "해당 리포트 카테고리를 찾을 수 없습니다."),
+    // Search
+    _SEARCH_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "SEARCH429", "검색 API 사용량 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    _SEARCH_REQUEST_REJECTED(HttpStatus.BAD_GATEWAY, "SEARCH502", "검색 API가 요청을 거부했습니다."),
+    _SEARCH_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SEARCH503", "검색 API를 일시적으로 사용할 수 없습니다."),
+    _SEARCH_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "SEARCH503", "검색 서비스 장애로 요청을 일시 중단했습니다. 잠시 후 다시 시도해주세요."),
+    _SEARCH_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SEARCH503", "검색 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    // IngestionJob
+    _INGESTION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "INGESTION404", "해당 수집 작업을 찾을 수 없습니다."),
+
+    // MailOutbox
+    _MAIL_NOT_FOUND(HttpStatus.NOT_FOUND, "MAIL404", "해당 메일을 찾을 수 없습니다."),
+    _MAIL_DISTRIBUTION_NOT_FOUND(HttpStatus.NOT_FOUND, "MAIL404", "해당 일괄 발송 요청을 찾을 수 없습니다."),
+    _MAIL_RECIPIENT_NOT_FOUND(HttpStatus.BAD_REQUEST, "MAIL400", "발송할 수신자가 없습니다."),
+
     // SCRAP
     _SCRAP_NOT_FOUND(HttpStatus.NOT_FOUND, "SCRAP404", "해당 스크랩을 찾을 수 없습니다."),
     //File
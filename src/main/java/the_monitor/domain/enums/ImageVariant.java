@@ -0,0 +1,19 @@
+package the_monitor.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 로고/서명 이미지의 표준 크기 (원본 옆에 <원본 키>_<suffix>.<확장자>로 저장, 원본보다 크게 늘리지 않음)
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    HEADER("header", 600, 200),         // 보고서 상단 로고
+    SIGNATURE("signature", 400, 120),   // 메일 서명
+    THUMBNAIL("thumbnail", 160, 160);   // 고객사 목록
+
+    private final String suffix;
+    private final int maxWidth;
+    private final int maxHeight;
+
+}
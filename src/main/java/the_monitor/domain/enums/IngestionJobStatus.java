@@ -0,0 +1,11 @@
+package the_monitor.domain.enums;
+
+public enum IngestionJobStatus {
+
+    PENDING,    // 대기 (커밋 후 실행기 큐에 등록됨)
+    RUNNING,    // 수집 중
+    DEFERRED,   // 검색 공급자 장애로 연기 (nextAttemptAt 이후 재실행)
+    COMPLETED,  // 완료
+    FAILED      // 실패
+
+}
@@ -0,0 +1,10 @@
+package the_monitor.domain.enums;
+
+public enum MailStatus {
+
+    PENDING,    // 발송 대기 (nextAttemptAt 이후 발송)
+    SENDING,    // 작업 스레드에서 발송 중
+    SENT,       // 발송 완료
+    FAILED      // 재시도 횟수 초과 또는 재시도해도 소용없는 오류
+
+}
@@ -0,0 +1,8 @@
+package the_monitor.domain.enums;
+
+public enum SearchPriority {
+
+    INTERACTIVE,    // 사용자 요청 (키워드 수정 등), 대기 중이면 백그라운드 요청보다 먼저 처리
+    BACKGROUND      // 수집 작업, 주기적 재수집
+
+}
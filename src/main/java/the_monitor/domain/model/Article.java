@@ -5,10 +5,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import the_monitor.common.BaseTimeEntity;
+import the_monitor.infrastructure.utils.PublishDateParser;
+import the_monitor.infrastructure.utils.UrlHashUtil;
+
+import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "articles")
+@Table(name = "articles",
+        uniqueConstraints = @UniqueConstraint(name = "uk_articles_keyword_url_hash", columnNames = {"keyword_id", "article_url_hash"}),
+        indexes = @Index(name = "idx_articles_keyword_published_at", columnList = "keyword_id, article_published_at"))
 @NoArgsConstructor
 public class Article extends BaseTimeEntity {
 
@@ -26,6 +32,10 @@ public class Article extends BaseTimeEntity {
     @Column(name = "article_url", nullable = false, length = 1024)
     private String url;
 
+    // 정규화된 URL의 64비트 해시, 키워드 내 중복 기사 판별에 사용
+    @Column(name = "article_url_hash")
+    private Long urlHash;
+
     @Column(name = "article_image_url", length = 1024)
     private String imageUrl;
 
@@ -35,6 +45,10 @@ public class Article extends BaseTimeEntity {
     @Column(name = "article_publish_date")
     private String publishDate;
 
+    // 수집 시점에 publishDate를 해석해 둔 값 (정렬/기간 조회/엑셀 출력용)
+    @Column(name = "article_published_at")
+    private LocalDateTime publishedAt;
+
     @Column(name = "article_reporter_name")
     private String reporterName;
 
@@ -67,9 +81,11 @@ public class Article extends BaseTimeEntity {
         this.title = title;
         this.body = body;
         this.url = url;
+        this.urlHash = UrlHashUtil.hash(url);
         this.imageUrl = imageUrl;
         this.publisherName = publisherName;
         this.publishDate = publishDate;
+        this.publishedAt = PublishDateParser.parse(publishDate);
         this.reporterName = reporterName;
         this.read = read;
         this.added = added;
@@ -0,0 +1,113 @@
+package the_monitor.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import the_monitor.common.BaseTimeEntity;
+import the_monitor.domain.enums.IngestionJobStatus;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Table(name = "ingestion_jobs", indexes = @Index(name = "idx_ingestion_jobs_status", columnList = "ingestion_job_status"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IngestionJob extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ingestion_job_id")
+    private Long id;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "ingestion_job_status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private IngestionJobStatus status;
+
+    @Column(name = "ingestion_job_total_keywords", nullable = false)
+    private int totalKeywords;
+
+    @Column(name = "ingestion_job_completed_keywords", nullable = false)
+    private int completedKeywords;
+
+    @Column(name = "ingestion_job_stored_articles", nullable = false)
+    private int storedArticles;
+
+    @Column(name = "ingestion_job_error", length = MAX_ERROR_LENGTH)
+    private String errorMessage;
+
+    // 실행 시도 횟수 (연기 후 재실행 포함)
+    @Column(name = "ingestion_job_attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "ingestion_job_next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "ingestion_job_started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "ingestion_job_finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public IngestionJob(Long clientId,
+                        Long accountId) {
+
+        this.clientId = clientId;
+        this.accountId = accountId;
+        this.status = IngestionJobStatus.PENDING;
+
+    }
+
+    // 실행 시작 (재시작 후 재실행되는 경우 진행 상황 초기화)
+    public void start(int totalKeywords) {
+        this.status = IngestionJobStatus.RUNNING;
+        this.attempts++;
+        this.nextAttemptAt = null;
+        this.totalKeywords = totalKeywords;
+        this.completedKeywords = 0;
+        this.storedArticles = 0;
+        this.errorMessage = null;
+        this.startedAt = LocalDateTime.now();
+        this.finishedAt = null;
+    }
+
+    public void recordProgress(int completedKeywords, int storedArticles) {
+        this.completedKeywords += completedKeywords;
+        this.storedArticles += storedArticles;
+    }
+
+    public void complete() {
+        this.status = IngestionJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    // 검색 공급자 장애 시 nextAttemptAt까지 연기
+    public void defer(LocalDateTime nextAttemptAt, String errorMessage) {
+        this.status = IngestionJobStatus.DEFERRED;
+        this.nextAttemptAt = nextAttemptAt;
+        this.errorMessage = truncate(errorMessage);
+    }
+
+    public void fail(String errorMessage) {
+        this.status = IngestionJobStatus.FAILED;
+        this.errorMessage = truncate(errorMessage);
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    private String truncate(String errorMessage) {
+        return (errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH)
+                ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+                : errorMessage;
+    }
+
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import the_monitor.common.BaseTimeEntity;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
@@ -25,6 +26,18 @@ public class Keyword extends BaseTimeEntity {
     @Column(name = "keyword_result_count")
     private int resultCount;
 
+    // 마지막 수집 시각, 재수집 시 이 시각 이후의 기사만 조회
+    @Column(name = "keyword_last_crawled_at")
+    private LocalDateTime lastCrawledAt;
+
+    // 재수집이 페이지 한도로 잘려 아직 조회하지 못한 구간 [lastCrawledAt, recrawlUntil]의 상한, 없으면 null
+    @Column(name = "keyword_recrawl_until")
+    private LocalDateTime recrawlUntil;
+
+    // 잘린 재수집이 recrawlUntil 이후를 조회한 시각, 남은 구간을 모두 조회하면 이 시각이 워터마크가 됨
+    @Column(name = "keyword_recrawl_covered_at")
+    private LocalDateTime recrawlCoveredAt;
+
     @OneToMany(mappedBy = "keyword", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Article> articles;
 
@@ -50,6 +63,29 @@ public class Keyword extends BaseTimeEntity {
         this.category = category;
     }
 
+    public void updateResultCount(int resultCount) {
+        this.resultCount = resultCount;
+    }
+
+    public void updateLastCrawledAt(LocalDateTime lastCrawledAt) {
+        this.lastCrawledAt = lastCrawledAt;
+    }
+
+    // 워터마크는 그대로 두고 남은 구간의 상한만 낮춤 (처음 잘린 재수집의 시각을 유지)
+    public void deferRecrawl(LocalDateTime recrawlUntil, LocalDateTime crawledAt) {
+        this.recrawlUntil = recrawlUntil;
+        if (this.recrawlCoveredAt == null) {
+            this.recrawlCoveredAt = crawledAt;
+        }
+    }
+
+    // 남은 구간까지 모두 조회했으면 처음 잘린 재수집 시각으로, 없었으면 이번 수집 시각으로 워터마크 이동
+    public void completeRecrawl(LocalDateTime crawledAt) {
+        this.lastCrawledAt = this.recrawlCoveredAt != null ? this.recrawlCoveredAt : crawledAt;
+        this.recrawlUntil = null;
+        this.recrawlCoveredAt = null;
+    }
+
     public String getKeyword() {
         return this.keyword;
     }
@@ -0,0 +1,63 @@
+package the_monitor.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import the_monitor.common.BaseTimeEntity;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 여러 보고서를 각 고객사 수신자에게 일괄 발송한 요청 단위 (수신자별 메일은 mail_outbox에 distribution_id로 연결)
+@Entity
+@Getter
+@Table(name = "mail_distributions")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailDistribution extends BaseTimeEntity {
+
+    private static final String ID_DELIMITER = ",";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_distribution_id")
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "mail_distribution_report_count", nullable = false)
+    private int reportCount;
+
+    @Column(name = "mail_distribution_mail_count", nullable = false)
+    private int mailCount;
+
+    // 수신자가 없어 발송하지 않은 보고서 (reportCount에는 포함하지 않음)
+    @Column(name = "mail_distribution_skipped_report_ids", columnDefinition = "TEXT")
+    private String skippedReportIds;
+
+    @Builder
+    public MailDistribution(Long accountId,
+                            int reportCount,
+                            List<Long> skippedReportIds) {
+
+        this.accountId = accountId;
+        this.reportCount = reportCount;
+        this.skippedReportIds = (skippedReportIds == null || skippedReportIds.isEmpty())
+                ? null
+                : String.join(ID_DELIMITER, skippedReportIds.stream().map(String::valueOf).toList());
+
+    }
+
+    public List<Long> getSkippedReportIdList() {
+        return (skippedReportIds == null || skippedReportIds.isEmpty())
+                ? List.of()
+                : Arrays.stream(skippedReportIds.split(ID_DELIMITER)).map(Long::valueOf).toList();
+    }
+
+    public void updateMailCount(int mailCount) {
+        this.mailCount = mailCount;
+    }
+
+}
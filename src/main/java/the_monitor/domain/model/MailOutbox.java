@@ -0,0 +1,137 @@
+package the_monitor.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import the_monitor.common.BaseTimeEntity;
+import the_monitor.domain.enums.MailStatus;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Entity
+@Getter
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "mail_status, mail_next_attempt_at"),
+        @Index(name = "idx_mail_outbox_distribution", columnList = "mail_distribution_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MailOutbox extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String ADDRESS_DELIMITER = ",";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_id")
+    private Long id;
+
+    // 발송을 요청한 계정 (회원가입 인증 메일처럼 로그인 전 발송은 null)
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "mail_to", nullable = false, length = 2000)
+    private String toAddresses;
+
+    @Column(name = "mail_cc", length = 2000)
+    private String ccAddresses;
+
+    @Column(name = "mail_subject", nullable = false)
+    private String subject;
+
+    // 인증 코드/임시 비밀번호가 들어갈 수 있으므로 발송이 끝나면(SENT/FAILED) 비움
+    @Lob
+    @Column(name = "mail_body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    // 보고서 엑셀을 첨부할 경우 보고서 id (첨부 파일은 발송 시점에 생성)
+    @Column(name = "report_id")
+    private Long reportId;
+
+    // 일괄 발송으로 등록된 메일이면 발송 요청 id
+    @Column(name = "mail_distribution_id")
+    private Long distributionId;
+
+    @Column(name = "mail_status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MailStatus status;
+
+    @Column(name = "mail_attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "mail_next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "mail_last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "mail_sent_at")
+    private LocalDateTime sentAt;
+
+    // 발송 중(SENDING)으로 선점한 시각, 작업자가 결과를 기록하지 못하고 멈춘 메일 회수 기준
+    @Column(name = "mail_claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Builder
+    public MailOutbox(Long accountId,
+                      List<String> toAddresses,
+                      List<String> ccAddresses,
+                      String subject,
+                      String body,
+                      Long reportId,
+                      Long distributionId) {
+
+        this.accountId = accountId;
+        this.toAddresses = String.join(ADDRESS_DELIMITER, toAddresses);
+        this.ccAddresses = (ccAddresses == null || ccAddresses.isEmpty()) ? null : String.join(ADDRESS_DELIMITER, ccAddresses);
+        this.subject = subject;
+        this.body = body;
+        this.reportId = reportId;
+        this.distributionId = distributionId;
+        this.status = MailStatus.PENDING;
+        this.nextAttemptAt = LocalDateTime.now();
+
+    }
+
+    public List<String> getToAddressList() {
+        return split(toAddresses);
+    }
+
+    public List<String> getCcAddressList() {
+        return split(ccAddresses);
+    }
+
+    public void markSent() {
+        this.status = MailStatus.SENT;
+        this.lastError = null;
+        this.sentAt = LocalDateTime.now();
+        this.body = "";
+    }
+
+    // 일시적 오류: nextAttemptAt 이후 다시 발송
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = MailStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(String error) {
+        this.status = MailStatus.FAILED;
+        this.lastError = truncate(error);
+        this.body = "";
+    }
+
+    private List<String> split(String addresses) {
+        return (addresses == null || addresses.isEmpty()) ? List.of() : Arrays.asList(addresses.split(ADDRESS_DELIMITER));
+    }
+
+    private String truncate(String error) {
+        return (error != null && error.length() > MAX_ERROR_LENGTH)
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+
+}
@@ -7,10 +7,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import the_monitor.common.BaseTimeEntity;
 import the_monitor.domain.enums.CategoryType;
+import the_monitor.infrastructure.utils.PublishDateParser;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "report_articles")
+@Table(name = "report_articles",
+        indexes = @Index(name = "idx_report_articles_category_published_at", columnList = "report_category_id, report_article_published_at"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReportArticle extends BaseTimeEntity {
 
@@ -37,6 +41,9 @@ public class ReportArticle extends BaseTimeEntity {
     @Column(name = "report_article_publish_date", nullable = false)
     private String publishDate;
 
+    @Column(name = "report_article_published_at")
+    private LocalDateTime publishedAt;
+
     @Column(name = "report_article_summary")
     private String summary;
 
@@ -65,6 +72,7 @@ public class ReportArticle extends BaseTimeEntity {
         this.publisherName = publisherName;
         this.reporterName = reporterName;
         this.publishDate = publishDate;
+        this.publishedAt = PublishDateParser.parse(publishDate);
         this.summary = summary;
         this.categoryType = categoryType;
         this.reportCategory = reportCategory;
@@ -7,10 +7,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import the_monitor.common.BaseTimeEntity;
 import the_monitor.domain.enums.CategoryType;
+import the_monitor.infrastructure.utils.PublishDateParser;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "scraps")
+@Table(name = "scraps",
+        indexes = @Index(name = "idx_scraps_client_published_at", columnList = "client_id, scrap_published_at"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Scrap extends BaseTimeEntity {
 
@@ -40,6 +44,9 @@ public class Scrap extends BaseTimeEntity {
     @Column(name = "scrap_publish_date", nullable = false)
     private String publishDate;
 
+    @Column(name = "scrap_published_at")
+    private LocalDateTime publishedAt;
+
     @Column(name = "scrap_category_type", nullable = false)
     @Enumerated(EnumType.STRING)
     private CategoryType categoryType;
@@ -66,6 +73,7 @@ public class Scrap extends BaseTimeEntity {
         this.publisherName = publisherName;
         this.reporterName = reporterName;
         this.publishDate = publishDate;
+        this.publishedAt = PublishDateParser.parse(publishDate);
         this.categoryType = categoryType;
         this.client = client;
 
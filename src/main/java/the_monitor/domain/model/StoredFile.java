@@ -0,0 +1,68 @@
+package the_monitor.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import the_monitor.common.BaseTimeEntity;
+
+import java.time.LocalDateTime;
+
+// 로고/서명 이미지를 내용(SHA-256) 기준으로 한 번만 저장하고, 참조 수가 0이 된 뒤 유예 기간이 지나면 S3 객체를 정리
+@Entity
+@Getter
+@Table(name = "stored_files",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stored_files_sha256", columnNames = "stored_file_sha256"),
+        indexes = @Index(name = "idx_stored_files_url", columnList = "stored_file_url"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredFile extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stored_file_id")
+    private Long id;
+
+    @Column(name = "stored_file_sha256", nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "stored_file_key", nullable = false)
+    private String objectKey;
+
+    @Column(name = "stored_file_url", nullable = false, length = 512)
+    private String url;
+
+    @Column(name = "stored_file_content_type")
+    private String contentType;
+
+    @Column(name = "stored_file_size", nullable = false)
+    private long size;
+
+    @Column(name = "stored_file_ref_count", nullable = false)
+    private int refCount;
+
+    // 표준 크기 이미지 생성이 끝나면 그 형식(png/jpg), 생성 전이거나 이미지가 아니면 null
+    @Column(name = "stored_file_variant_format", length = 8)
+    private String variantFormat;
+
+    // 참조 수가 마지막으로 0이 된 시각, 정리 작업은 유예 기간이 지난 행만 삭제
+    @Column(name = "stored_file_released_at")
+    private LocalDateTime releasedAt;
+
+    @Builder
+    public StoredFile(String sha256,
+                      String objectKey,
+                      String url,
+                      String contentType,
+                      long size) {
+
+        this.sha256 = sha256;
+        this.objectKey = objectKey;
+        this.url = url;
+        this.contentType = contentType;
+        this.size = size;
+        this.refCount = 1;
+
+    }
+
+}
@@ -10,6 +10,9 @@ import the_monitor.domain.model.Article;
 import the_monitor.domain.model.Keyword;
 import the_monitor.infrastructure.persistence.JpaArticleRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ArticleRepository extends JpaArticleRepository {
 
     Page<Article> findByKeyword(Keyword keyword, Pageable pageable);
@@ -28,4 +31,19 @@ public interface ArticleRepository extends JpaArticleRepository {
     @Query("DELETE FROM Article a WHERE a.keyword.category.client.id = :clientId")
     void deleteByClientId(@Param("clientId") Long clientId);
 
+    @Modifying
+    @Query("DELETE FROM Article a WHERE a.keyword.id IN :keywordIds")
+    void deleteByKeywordIdIn(@Param("keywordIds") List<Long> keywordIds);
+
+    // 보고서 생성 시 선택된 기사를 키워드와 함께 한 번에 조회
+    @Query("SELECT a FROM Article a " +
+            "JOIN FETCH a.keyword k " +
+            "JOIN FETCH k.category " +
+            "WHERE a.id IN :articleIds")
+    List<Article> findAllWithKeywordByIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Article a SET a.added = true WHERE a.id IN :articleIds")
+    int markAddedByIdIn(@Param("articleIds") Collection<Long> articleIds);
+
 }
\ No newline at end of file
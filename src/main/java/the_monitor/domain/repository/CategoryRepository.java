@@ -1,7 +1,13 @@
 package the_monitor.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import the_monitor.domain.enums.CategoryType;
 import the_monitor.domain.model.Category;
 
+import java.util.Optional;
+
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    Optional<Category> findFirstByClientIdAndCategoryTypeOrderByIdAsc(Long clientId, CategoryType categoryType);
+
 }
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import the_monitor.domain.model.Client;
 import the_monitor.domain.model.ClientMailCC;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ClientMailCCRepository extends JpaRepository<ClientMailCC, Long> {
@@ -14,6 +15,10 @@ public interface ClientMailCCRepository extends JpaRepository<ClientMailCC, Long
     @Query("SELECT cmc FROM ClientMailCC cmc WHERE cmc.client = :client")
     List<ClientMailCC> findAllByClient(@Param("client") Client client);
 
+    // 여러 고객사의 참조자를 한 번에 조회 (보고서 일괄 발송)
+    @Query("SELECT cmc FROM ClientMailCC cmc WHERE cmc.client.id IN :clientIds ORDER BY cmc.id")
+    List<ClientMailCC> findAllByClientIdIn(@Param("clientIds") Collection<Long> clientIds);
+
     @Modifying
     @Query("DELETE FROM ClientMailCC cmc WHERE cmc.client = :client")
     void deleteAllByClient(@Param("client") Client client);
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import the_monitor.domain.model.Client;
 import the_monitor.domain.model.ClientMailRecipient;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ClientMailRecipientRepository extends JpaRepository<ClientMailRecipient, Long> {
@@ -14,6 +15,10 @@ public interface ClientMailRecipientRepository extends JpaRepository<ClientMailR
     @Query("SELECT cmr FROM ClientMailRecipient cmr WHERE cmr.client = :client")
     List<ClientMailRecipient> findAllByClient(@Param("client") Client client);
 
+    // 여러 고객사의 수신자를 한 번에 조회 (보고서 일괄 발송)
+    @Query("SELECT cmr FROM ClientMailRecipient cmr WHERE cmr.client.id IN :clientIds ORDER BY cmr.id")
+    List<ClientMailRecipient> findAllByClientIdIn(@Param("clientIds") Collection<Long> clientIds);
+
     @Modifying
     @Query("DELETE FROM ClientMailRecipient cmr WHERE cmr.client = :client")
     void deleteAllByClient(@Param("client") Client client);
@@ -0,0 +1,22 @@
+package the_monitor.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import the_monitor.domain.enums.IngestionJobStatus;
+import the_monitor.domain.model.IngestionJob;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IngestionJobRepository extends JpaRepository<IngestionJob, Long> {
+
+    Optional<IngestionJob> findByIdAndAccountId(Long id, Long accountId);
+
+    List<IngestionJob> findAllByStatusIn(Collection<IngestionJobStatus> statuses);
+
+    List<IngestionJob> findAllByStatusAndNextAttemptAtLessThanEqual(IngestionJobStatus status, LocalDateTime now);
+
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Repository;
 import the_monitor.domain.enums.CategoryType;
 import the_monitor.domain.model.Keyword;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -39,6 +40,15 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
     Keyword findKeywordByIdAndCategoryType(@Param("keywordId") Long keywordId,
                                            @Param("categoryType") CategoryType categoryType);
 
+    // 재수집 대상: 마지막 수집이 기준 시각 이전이거나, 수집 이력 없이 생성된 지 오래된 키워드
+    // lastCrawledAt은 발행일 시간대(PUBLISH_ZONE), createdAt은 서버 시간대로 기록되므로 기준 시각을 각각 받음
+    @Query("SELECT k FROM Keyword k " +
+            "WHERE (k.lastCrawledAt IS NOT NULL AND k.lastCrawledAt < :crawledBefore) " +
+            "OR (k.lastCrawledAt IS NULL AND k.createdAt < :createdBefore) " +
+            "ORDER BY k.lastCrawledAt ASC")
+    List<Keyword> findRecrawlTargets(@Param("crawledBefore") LocalDateTime crawledBefore,
+                                     @Param("createdBefore") LocalDateTime createdBefore);
+
     @Modifying
     @Query("DELETE FROM Keyword k " +
             "WHERE k.category.client.id = :clientId")
@@ -0,0 +1,14 @@
+package the_monitor.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import the_monitor.domain.model.MailDistribution;
+
+import java.util.Optional;
+
+@Repository
+public interface MailDistributionRepository extends JpaRepository<MailDistribution, Long> {
+
+    Optional<MailDistribution> findByIdAndAccountId(Long id, Long accountId);
+
+}
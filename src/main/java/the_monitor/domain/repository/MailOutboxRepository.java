@@ -0,0 +1,61 @@
+package the_monitor.domain.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import the_monitor.domain.model.MailOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    Optional<MailOutbox> findByIdAndAccountId(Long id, Long accountId);
+
+    List<MailOutbox> findAllByDistributionIdOrderByIdAsc(Long distributionId);
+
+    @Query("SELECT m.id FROM MailOutbox m " +
+            "WHERE m.status = the_monitor.domain.enums.MailStatus.PENDING " +
+            "AND m.nextAttemptAt <= :now " +
+            "ORDER BY m.nextAttemptAt ASC, m.id ASC")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 대기 중인 메일을 발송 중으로 선점 (다른 작업자가 먼저 선점했으면 0건)
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = the_monitor.domain.enums.MailStatus.SENDING, m.attempts = m.attempts + 1, " +
+            "m.claimedAt = :now " +
+            "WHERE m.id = :id AND m.status = the_monitor.domain.enums.MailStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 선점 후 제한 시간이 지나도 결과가 기록되지 않은 메일
+    @Query("SELECT m FROM MailOutbox m " +
+            "WHERE m.status = the_monitor.domain.enums.MailStatus.SENDING " +
+            "AND (m.claimedAt IS NULL OR m.claimedAt < :claimedBefore)")
+    List<MailOutbox> findStuckSending(@Param("claimedBefore") LocalDateTime claimedBefore, Pageable pageable);
+
+    // 발송이 끝난 메일 본문 비우기 (이전 버전에서 본문을 남긴 채 끝난 메일 정리용)
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.body = '' " +
+            "WHERE m.status IN (the_monitor.domain.enums.MailStatus.SENT, the_monitor.domain.enums.MailStatus.FAILED) " +
+            "AND m.body <> ''")
+    int clearFinishedBodies();
+
+    // 보존 기간이 지난 발송 완료/실패 메일 삭제
+    @Modifying
+    @Query("DELETE FROM MailOutbox m " +
+            "WHERE m.status IN (the_monitor.domain.enums.MailStatus.SENT, the_monitor.domain.enums.MailStatus.FAILED) " +
+            "AND m.updatedAt < :before")
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+
+    // 서버가 발송 도중 종료된 경우 다시 대기 상태로
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = the_monitor.domain.enums.MailStatus.PENDING " +
+            "WHERE m.status = the_monitor.domain.enums.MailStatus.SENDING")
+    int releaseSending();
+
+}
@@ -1,6 +1,7 @@
 package the_monitor.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import the_monitor.domain.enums.CategoryType;
@@ -15,6 +16,13 @@ public interface ReportCategoryRepository extends JpaRepository<ReportCategory,
 
     List<ReportCategory> findByReportId(@Param("reportId") Long reportId);
 
+    // 보고서 상세 조회용: 카테고리와 기사를 한 번에 로딩
+    @Query("SELECT DISTINCT rc FROM ReportCategory rc " +
+            "LEFT JOIN FETCH rc.reportArticles " +
+            "WHERE rc.report.id = :reportId " +
+            "ORDER BY rc.id")
+    List<ReportCategory> findWithArticlesByReportId(@Param("reportId") Long reportId);
+
     ReportCategory findByIdAndReportId(@Param("reportCategoryId") Long reportCategoryId, @Param("reportId") Long reportId);
 
     ReportCategory findByReportAndCategoryTypeAndIsDefault(Report report, CategoryType categoryType, boolean isDefault);
@@ -5,7 +5,9 @@ import org.springframework.data.jpa.repository.Query;
 import the_monitor.domain.model.Report;
 import the_monitor.infrastructure.persistence.JpaReportRepository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ReportRepository extends JpaReportRepository {
 
@@ -13,6 +15,22 @@ public interface ReportRepository extends JpaReportRepository {
     Report findReportByClientIdAndReportId(@Param("clientId") Long clientId,
                                            @Param("reportId") Long reportId);
 
+    // 보고서 상세 조회용: 고객사와 소유 계정을 함께 로딩
+    @Query("SELECT r FROM Report r " +
+            "JOIN FETCH r.client c " +
+            "JOIN FETCH c.account " +
+            "WHERE c.id = :clientId AND r.id = :reportId")
+    Optional<Report> findDetailByClientIdAndReportId(@Param("clientId") Long clientId,
+                                                     @Param("reportId") Long reportId);
+
+    // 보고서 일괄 발송용: 계정 소유 보고서를 고객사와 함께 한 번에 조회
+    @Query("SELECT r FROM Report r " +
+            "JOIN FETCH r.client c " +
+            "JOIN FETCH c.account a " +
+            "WHERE r.id IN :reportIds AND a.id = :accountId")
+    List<Report> findAllWithClientByIdInAndAccountId(@Param("reportIds") Collection<Long> reportIds,
+                                                     @Param("accountId") Long accountId);
+
     @Query("SELECT r FROM Report r WHERE r.client.id = :clientId AND r.title LIKE %:searchTitle% ORDER BY r.createdAt DESC")
     List<Report> findByClientIdAndTitleContaining(@Param("clientId") Long clientId,
                                                   @Param("searchTitle") String searchTitle);
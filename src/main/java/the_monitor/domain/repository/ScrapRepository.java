@@ -17,7 +17,8 @@ public interface ScrapRepository extends JpaScrapRepository {
                                                @Param("url") String url);
 
     @Query("SELECT s FROM Scrap s " +
-            "WHERE s.client.id = :clientId")
+            "WHERE s.client.id = :clientId " +
+            "ORDER BY s.publishedAt DESC, s.id DESC")
     List<Scrap> findAllByClientId(@Param("clientId") Long clientId);
 
 }
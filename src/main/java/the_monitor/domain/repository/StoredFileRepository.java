@@ -0,0 +1,65 @@
+package the_monitor.domain.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import the_monitor.domain.model.StoredFile;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findBySha256(String sha256);
+
+    @Query("SELECT s FROM StoredFile s WHERE s.url IN :urls AND s.variantFormat IS NOT NULL")
+    List<StoredFile> findAllWithVariantsByUrlIn(@Param("urls") Collection<String> urls);
+
+    // 같은 내용을 동시에 처음 올려도 행은 하나만 생기고 참조 수만 증가
+    @Modifying
+    @Query(value = "INSERT INTO stored_files (stored_file_sha256, stored_file_key, stored_file_url, stored_file_content_type, " +
+            "stored_file_size, stored_file_ref_count, created_at, updated_at) " +
+            "VALUES (:sha256, :objectKey, :url, :contentType, :size, 1, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE stored_file_ref_count = stored_file_ref_count + 1, updated_at = NOW()",
+            nativeQuery = true)
+    int upsertReference(@Param("sha256") String sha256,
+                        @Param("objectKey") String objectKey,
+                        @Param("url") String url,
+                        @Param("contentType") String contentType,
+                        @Param("size") long size);
+
+    @Modifying
+    @Query("UPDATE StoredFile s SET s.refCount = s.refCount + 1 WHERE s.url = :url")
+    int incrementRefCount(@Param("url") String url);
+
+    @Modifying
+    @Query("UPDATE StoredFile s SET s.refCount = s.refCount - 1 WHERE s.url = :url AND s.refCount > 0")
+    int decrementRefCount(@Param("url") String url);
+
+    @Modifying
+    @Query("UPDATE StoredFile s SET s.variantFormat = :variantFormat WHERE s.sha256 = :sha256")
+    int markVariantsReady(@Param("sha256") String sha256,
+                          @Param("variantFormat") String variantFormat);
+
+    @Modifying
+    @Query("UPDATE StoredFile s SET s.releasedAt = :releasedAt WHERE s.url = :url AND s.refCount = 0")
+    int markReleased(@Param("url") String url,
+                     @Param("releasedAt") LocalDateTime releasedAt);
+
+    @Query("SELECT s.id FROM StoredFile s WHERE s.refCount = 0 AND s.releasedAt < :releasedBefore")
+    List<Long> findReleasedIds(@Param("releasedBefore") LocalDateTime releasedBefore, Pageable pageable);
+
+    // 정리 중에는 행을 잠가 같은 내용의 store()/retain()이 참조 수를 올리지 못하게 함 (커밋 후에는 새 행으로 등록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoredFile s WHERE s.id = :id")
+    Optional<StoredFile> findByIdForUpdate(@Param("id") Long id);
+
+}
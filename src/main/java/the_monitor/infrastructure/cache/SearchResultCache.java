@@ -0,0 +1,131 @@
+package the_monitor.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import the_monitor.application.service.SearchMetricsService;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+// 검색 결과 캐시: 프로세스 내 Caffeine + (선택) Redis 2단계
+// 같은 키를 동시에 요청하면 한 요청만 API를 호출하고 나머지는 그 결과를 기다림
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchResultCache {
+
+    private static final String REDIS_KEY_PREFIX = "search:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SearchMetricsService searchMetricsService;
+
+    @Value("${search.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    @Value("${search.cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${search.cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    private AsyncCache<String, Object> localCache;
+
+    @PostConstruct
+    void initCache() {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .buildAsync();
+    }
+
+    // 캐시에 있으면 반환, 없으면 호출 스레드에서 loader 실행 후 저장 (실패한 결과는 저장하지 않음)
+    public <T> T get(String key, Class<T> type, Supplier<T> loader) {
+
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> cached = localCache.asMap().putIfAbsent(key, loading);
+
+        if (cached != null) {
+            searchMetricsService.recordCacheHit();
+            return type.cast(join(cached));
+        }
+
+        try {
+            T value = readRedis(key, type);
+            if (value != null) {
+                searchMetricsService.recordRedisCacheHit();
+            } else {
+                searchMetricsService.recordCacheMiss();
+                value = loader.get();
+                writeRedis(key, value);
+            }
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            localCache.asMap().remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+
+    }
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private <T> T readRedis(String key, Class<T> type) {
+
+        if (!redisEnabled) {
+            return null;
+        }
+
+        try {
+            Object json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            return json != null ? objectMapper.readValue(json.toString(), type) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis 장애 시 캐시 없이 진행
+            log.warn("검색 캐시 Redis 조회 실패: key={}", key, e);
+            return null;
+        }
+
+    }
+
+    private void writeRedis(String key, Object value) {
+
+        if (!redisEnabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + key, objectMapper.writeValueAsString(value), Duration.ofSeconds(ttlSeconds));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("검색 캐시 Redis 저장 실패: key={}", key, e);
+        }
+
+    }
+
+}
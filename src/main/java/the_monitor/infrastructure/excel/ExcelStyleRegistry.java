@@ -0,0 +1,61 @@
+package the_monitor.infrastructure.excel;
+
+import org.apache.poi.ss.usermodel.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 워크북 단위 스타일 레지스트리: 같은 속성의 스타일/폰트는 한 번만 생성해 재사용
+// (엑셀 스타일 테이블은 64,000개 제한이 있으므로 셀마다 createCellStyle 호출 금지)
+public class ExcelStyleRegistry {
+
+    private final Workbook workbook;
+    private final Map<FontSpec, Font> fonts = new HashMap<>();
+    private final Map<StyleSpec, CellStyle> styles = new HashMap<>();
+
+    public ExcelStyleRegistry(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    public CellStyle getStyle(StyleSpec spec) {
+        return styles.computeIfAbsent(spec, this::createStyle);
+    }
+
+    private CellStyle createStyle(StyleSpec spec) {
+
+        CellStyle style = workbook.createCellStyle();
+        style.setFont(fonts.computeIfAbsent(spec.font(), this::createFont));
+        style.setAlignment(spec.alignment());
+        style.setVerticalAlignment(spec.verticalAlignment());
+        style.setWrapText(spec.wrapText());
+
+        return style;
+
+    }
+
+    private Font createFont(FontSpec spec) {
+
+        Font font = workbook.createFont();
+        font.setFontName(spec.name());
+        font.setFontHeightInPoints(spec.heightInPoints());
+        font.setBold(spec.bold());
+
+        return font;
+
+    }
+
+    public record FontSpec(String name, short heightInPoints, boolean bold) {
+    }
+
+    public record StyleSpec(FontSpec font,
+                            HorizontalAlignment alignment,
+                            VerticalAlignment verticalAlignment,
+                            boolean wrapText) {
+
+        public static StyleSpec of(FontSpec font) {
+            return new StyleSpec(font, HorizontalAlignment.GENERAL, VerticalAlignment.BOTTOM, false);
+        }
+
+    }
+
+}
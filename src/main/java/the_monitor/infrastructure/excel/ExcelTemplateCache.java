@@ -0,0 +1,80 @@
+package the_monitor.infrastructure.excel;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+// 보고서 엑셀 템플릿을 기동 시 한 번만 읽어 두고, 내보내기마다 메모리의 바이트로 워크북을 생성
+// 압축을 풀어 STORED 엔트리로 다시 묶어 두므로 내보내기 경로에서 클래스패스 조회와 inflate가 없음
+@Slf4j
+@Component
+public class ExcelTemplateCache {
+
+    private static final String TEMPLATE_PATH = "/templates/templates.xlsx";
+
+    private byte[] templateBytes;
+
+    @PostConstruct
+    void loadTemplate() throws IOException {
+
+        try (InputStream templateStream = getClass().getResourceAsStream(TEMPLATE_PATH)) {
+            if (templateStream == null) {
+                throw new IllegalStateException("Excel template not found");
+            }
+
+            this.templateBytes = repackUncompressed(templateStream.readAllBytes());
+        }
+
+        // 기동 시 템플릿이 정상적으로 열리는지 확인
+        try (XSSFWorkbook ignored = openWorkbook()) {
+            log.info("엑셀 템플릿 캐시 완료: {} bytes", templateBytes.length);
+        }
+
+    }
+
+    // 호출마다 독립된 워크북 반환 (호출 측에서 close)
+    public XSSFWorkbook openWorkbook() throws IOException {
+        return new XSSFWorkbook(new ByteArrayInputStream(templateBytes));
+    }
+
+    private byte[] repackUncompressed(byte[] zipBytes) throws IOException {
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(zipBytes.length * 4);
+
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zipBytes));
+             ZipOutputStream out = new ZipOutputStream(buffer)) {
+
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                byte[] content = in.readAllBytes();
+
+                CRC32 crc = new CRC32();
+                crc.update(content);
+
+                ZipEntry stored = new ZipEntry(entry.getName());
+                stored.setMethod(ZipEntry.STORED);
+                stored.setSize(content.length);
+                stored.setCompressedSize(content.length);
+                stored.setCrc(crc.getValue());
+
+                out.putNextEntry(stored);
+                out.write(content);
+                out.closeEntry();
+            }
+        }
+
+        return buffer.toByteArray();
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package the_monitor.infrastructure.http;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import the_monitor.application.dto.response.OutboundHostMetricsResponse;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 외부 호스트별 요청 수, 동시 요청 수(연결 사용량), 오류 수, 응답 헤더까지의 지연 시간 집계
+@Component
+public class OutboundHttpMetrics implements ClientHttpRequestInterceptor {
+
+    private final ConcurrentMap<String, HostCounters> hostCounters = new ConcurrentHashMap<>();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+
+        HostCounters counters = hostCounters.computeIfAbsent(request.getURI().getHost(), host -> new HostCounters());
+
+        counters.requests.increment();
+        counters.inFlight.updateAndGet(inFlight -> {
+            counters.maxInFlight.accumulateAndGet(inFlight + 1, Math::max);
+            return inFlight + 1;
+        });
+
+        long startedAt = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            if (response.getStatusCode().isError()) {
+                counters.errors.increment();
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            counters.errors.increment();
+            throw e;
+        } finally {
+            counters.latencyNanos.add(System.nanoTime() - startedAt);
+            counters.inFlight.decrementAndGet();
+        }
+
+    }
+
+    public List<OutboundHostMetricsResponse> getHostMetrics() {
+
+        return hostCounters.entrySet().stream()
+                .map(entry -> {
+                    HostCounters counters = entry.getValue();
+                    long requests = counters.requests.sum();
+                    return OutboundHostMetricsResponse.builder()
+                            .host(entry.getKey())
+                            .requests(requests)
+                            .errors(counters.errors.sum())
+                            .inFlight(counters.inFlight.get())
+                            .maxInFlight(counters.maxInFlight.get())
+                            .averageLatencyMs(requests == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(counters.latencyNanos.sum() / requests))
+                            .build();
+                })
+                .sorted(Comparator.comparing(OutboundHostMetricsResponse::getHost))
+                .toList();
+
+    }
+
+    private static class HostCounters {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package the_monitor.infrastructure.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import the_monitor.domain.enums.ImageVariant;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+// ImageIO로 원본을 읽어 표준 크기로 줄이고 다시 압축 (투명도가 있으면 PNG, 없으면 JPEG)
+@Component
+public class ImageResizer {
+
+    public static final String PNG = "png";
+    public static final String JPEG = "jpg";
+
+    // 압축 폭탄 방지: 디코딩 전에 헤더의 크기만 보고 거부
+    @Value("${image.variant.max-source-pixels:40000000}")
+    private long maxSourcePixels;
+
+    @Value("${image.variant.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    // 지원하지 않는 형식(SVG 등)이면 null
+    public BufferedImage read(InputStream inputStream) throws IOException {
+
+        try (ImageInputStream imageStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageStream == null ? null : ImageIO.getImageReaders(imageStream);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageStream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxSourcePixels) {
+                    throw new IOException("이미지 크기 초과: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+    }
+
+    public String formatOf(BufferedImage source) {
+        return source.getColorModel().hasAlpha() ? PNG : JPEG;
+    }
+
+    public byte[] resize(BufferedImage source, ImageVariant variant, String format) throws IOException {
+
+        double scale = Math.min(1.0, Math.min(
+                (double) variant.getMaxWidth() / source.getWidth(),
+                (double) variant.getMaxHeight() / source.getHeight()));
+
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage resized = scale(source, width, height, PNG.equals(format));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (PNG.equals(format)) {
+            ImageIO.write(resized, "png", outputStream);
+        } else {
+            writeJpeg(resized, outputStream);
+        }
+        return outputStream.toByteArray();
+
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소
+    private BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight, boolean alpha) {
+
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, type);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, int type) {
+
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            if (type == BufferedImage.TYPE_INT_RGB) {
+                graphics.setColor(Color.WHITE); // 팔레트 투명색 등은 흰 배경으로
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+
+    }
+
+    private void writeJpeg(BufferedImage image, ByteArrayOutputStream outputStream) throws IOException {
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageStream = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            writer.setOutput(imageStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+    }
+
+}
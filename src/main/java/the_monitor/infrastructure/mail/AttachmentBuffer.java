@@ -0,0 +1,214 @@
+package the_monitor.infrastructure.mail;
+
+import jakarta.activation.DataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 메일 첨부 파일을 디스크 임시 파일 없이 메모리에 생성하는 버퍼
+// heapThreshold까지는 힙 배열, 그 이상은 direct ByteBuffer(off-heap)로 옮기며 maxBytes를 넘으면 실패
+// off-heap 용량은 공용 DirectMemoryBudget에서 확보하고, 마지막 사용자가 release()하면 반납
+public class AttachmentBuffer extends OutputStream {
+
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private final int heapThreshold;
+    private final int maxBytes;
+    private final DirectMemoryBudget directMemoryBudget;
+
+    // 생성한 쪽이 1개를 보유, 공유하는 쪽은 retain()/release()로 증감
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private byte[] heap;
+    private ByteBuffer direct;
+    private int size;
+
+    public AttachmentBuffer(int heapThreshold, int maxBytes, DirectMemoryBudget directMemoryBudget) {
+        this.heapThreshold = heapThreshold;
+        this.maxBytes = maxBytes;
+        this.directMemoryBudget = directMemoryBudget;
+        this.heap = new byte[Math.min(INITIAL_CAPACITY, heapThreshold)];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity(size + 1);
+        if (direct == null) {
+            heap[size] = (byte) b;
+        } else {
+            direct.put((byte) b);
+        }
+        size++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        ensureCapacity(size + length);
+        if (direct == null) {
+            System.arraycopy(bytes, offset, heap, size, length);
+        } else {
+            direct.put(bytes, offset, length);
+        }
+        size += length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 이미 반납된 버퍼면 false (호출한 쪽이 새로 생성)
+    public boolean retain() {
+        return references.getAndUpdate(count -> count > 0 ? count + 1 : 0) > 0;
+    }
+
+    // 마지막 참조가 해제되면 off-heap 예산을 반납하고 버퍼를 GC 대상으로 둠
+    public void release() {
+
+        if (references.decrementAndGet() != 0) {
+            return;
+        }
+
+        synchronized (this) {
+            if (direct != null) {
+                directMemoryBudget.release(direct.capacity());
+                direct = null;
+            }
+            heap = null;
+        }
+
+    }
+
+    // 메일 전송 중 여러 번 읽을 수 있도록 호출마다 처음부터 읽는 스트림 반환
+    public DataSource toDataSource(String name, String contentType) {
+
+        return new DataSource() {
+            @Override
+            public InputStream getInputStream() {
+                return direct == null
+                        ? new ByteArrayInputStream(heap, 0, size)
+                        : new ByteBufferInputStream(direct.duplicate().flip());
+            }
+
+            @Override
+            public OutputStream getOutputStream() {
+                throw new UnsupportedOperationException("read-only attachment");
+            }
+
+            @Override
+            public String getContentType() {
+                return contentType;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+
+    }
+
+    private void ensureCapacity(int required) throws IOException {
+
+        if (required < 0 || required > maxBytes) {
+            throw new AttachmentSizeExceededException(maxBytes);
+        }
+
+        if (direct == null) {
+            if (required <= heap.length) {
+                return;
+            }
+            if (required <= heapThreshold) {
+                heap = Arrays.copyOf(heap, Math.min(Math.max(required, heap.length * 2), heapThreshold));
+                return;
+            }
+
+            // 힙 임계치를 넘으면 off-heap으로 이동
+            ByteBuffer allocated = allocateDirect(grow(required, heapThreshold));
+            allocated.put(heap, 0, size);
+            direct = allocated;
+            heap = null;
+            return;
+        }
+
+        if (required > direct.capacity()) {
+            ByteBuffer larger = allocateDirect(grow(required, direct.capacity()));
+            larger.put(direct.flip());
+            directMemoryBudget.release(direct.capacity());
+            direct = larger;
+        }
+
+    }
+
+    // 예산을 먼저 확보하고 할당, 부족하면 할당하지 않고 실패
+    private ByteBuffer allocateDirect(int capacity) throws IOException {
+
+        if (!directMemoryBudget.tryReserve(capacity)) {
+            throw new DirectMemoryExhaustedException(capacity);
+        }
+
+        try {
+            return ByteBuffer.allocateDirect(capacity);
+        } catch (OutOfMemoryError e) {
+            directMemoryBudget.release(capacity);
+            throw new DirectMemoryExhaustedException(capacity);
+        }
+
+    }
+
+    private int grow(int required, int current) {
+        long doubled = Math.max((long) required, (long) current * 2);
+        return (int) Math.min(doubled, maxBytes);
+    }
+
+    public static class AttachmentSizeExceededException extends IOException {
+
+        public AttachmentSizeExceededException(int maxBytes) {
+            super("첨부 파일이 최대 크기(" + maxBytes + " bytes)를 초과했습니다.");
+        }
+
+    }
+
+    public static class DirectMemoryExhaustedException extends IOException {
+
+        public DirectMemoryExhaustedException(int requestedBytes) {
+            super("첨부 파일 off-heap 메모리 예산이 부족합니다. (요청 " + requestedBytes + " bytes)");
+        }
+
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+    }
+
+}
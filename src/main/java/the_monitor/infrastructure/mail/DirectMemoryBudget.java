@@ -0,0 +1,35 @@
+package the_monitor.infrastructure.mail;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+// 첨부 파일 off-heap 버퍼 전체가 사용할 수 있는 바이트 수 상한 (permit 1개 = 1 byte)
+// 캐시/배치가 동시에 여러 보고서를 만들어도 MaxDirectMemorySize를 넘기 전에 할당을 거절
+@Component
+public class DirectMemoryBudget {
+
+    @Value("${mail.attachment.direct-budget-bytes:536870912}")
+    private int budgetBytes;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    void initPermits() {
+        this.permits = new Semaphore(budgetBytes);
+    }
+
+    // 대기하지 않고 즉시 확보, 남은 예산이 부족하면 false
+    public boolean tryReserve(int bytes) {
+        return bytes <= 0 || permits.tryAcquire(bytes);
+    }
+
+    public void release(int bytes) {
+        if (bytes > 0) {
+            permits.release(bytes);
+        }
+    }
+
+}
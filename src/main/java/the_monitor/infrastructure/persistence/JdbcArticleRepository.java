@@ -0,0 +1,121 @@
+package the_monitor.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import the_monitor.domain.model.Article;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Article.id가 IDENTITY 전략이라 Hibernate 배치 INSERT가 불가능하므로, 수집 기사는 multi-row INSERT로 한 번에 저장
+@Repository
+@RequiredArgsConstructor
+public class JdbcArticleRepository {
+
+    private static final int ROWS_PER_STATEMENT = 100;
+
+    private static final String INSERT_PREFIX = "INSERT INTO articles (" +
+            "article_title, article_body, article_url, article_url_hash, article_image_url, article_publisher_name, " +
+            "article_publish_date, article_published_at, article_reporter_name, article_is_read, article_is_added, article_is_scrapped, " +
+            "keyword_id, created_at, updated_at) VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // (keyword_id, article_url_hash) 중복 시 읽음/스크랩/추가 상태는 유지하고 기사 내용만 갱신
+    private static final String UPSERT_SUFFIX = " ON DUPLICATE KEY UPDATE " +
+            "article_title = VALUES(article_title), " +
+            "article_body = VALUES(article_body), " +
+            "article_image_url = VALUES(article_image_url), " +
+            "article_published_at = VALUES(article_published_at), " +
+            "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 새로 INSERT된 행 수 반환
+    // ON DUPLICATE KEY UPDATE의 영향 행 수는 INSERT 1, UPDATE 2 (updated_at이 항상 바뀌므로 변경 없는 0은 없음)
+    public int upsertAll(List<Article> articles) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+
+        for (int from = 0; from < articles.size(); from += ROWS_PER_STATEMENT) {
+            List<Article> chunk = articles.subList(from, Math.min(from + ROWS_PER_STATEMENT, articles.size()));
+
+            int affected = jdbcTemplate.update(buildUpsertSql(chunk.size()), ps -> {
+                int index = 1;
+                for (Article article : chunk) {
+                    index = bindArticle(ps, index, article, now);
+                }
+            });
+
+            // inserts + 2 * updates = affected, inserts + updates = chunk.size()
+            inserted += Math.max(0, Math.min(chunk.size(), 2 * chunk.size() - affected));
+        }
+
+        return inserted;
+
+    }
+
+    // 키워드별로 이미 저장된 URL 해시 조회
+    public Map<Long, Set<Long>> findExistingUrlHashes(Collection<Long> keywordIds, Collection<Long> urlHashes) {
+
+        Map<Long, Set<Long>> existing = new HashMap<>();
+        if (keywordIds.isEmpty() || urlHashes.isEmpty()) {
+            return existing;
+        }
+
+        String sql = "SELECT keyword_id, article_url_hash FROM articles " +
+                "WHERE keyword_id IN (" + placeholders(keywordIds.size()) + ") " +
+                "AND article_url_hash IN (" + placeholders(urlHashes.size()) + ")";
+
+        List<Object> params = new ArrayList<>(keywordIds);
+        params.addAll(urlHashes);
+
+        jdbcTemplate.query(sql, rs -> {
+            existing.computeIfAbsent(rs.getLong("keyword_id"), key -> new HashSet<>())
+                    .add(rs.getLong("article_url_hash"));
+        }, params.toArray());
+
+        return existing;
+
+    }
+
+    private String buildUpsertSql(int rows) {
+        return INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, ROW_PLACEHOLDER)) + UPSERT_SUFFIX;
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+
+    private int bindArticle(PreparedStatement ps, int index, Article article, Timestamp now) throws SQLException {
+
+        ps.setString(index++, article.getTitle());
+        ps.setString(index++, article.getBody());
+        ps.setString(index++, article.getUrl());
+        ps.setObject(index++, article.getUrlHash());
+        ps.setString(index++, article.getImageUrl());
+        ps.setString(index++, article.getPublisherName());
+        ps.setString(index++, article.getPublishDate());
+        ps.setTimestamp(index++, toTimestamp(article.getPublishedAt()));
+        ps.setString(index++, article.getReporterName());
+        ps.setBoolean(index++, article.isRead());
+        ps.setBoolean(index++, article.isAdded());
+        ps.setBoolean(index++, article.isScrapped());
+        ps.setLong(index++, article.getKeyword().getId());
+        ps.setTimestamp(index++, now);
+        ps.setTimestamp(index++, now);
+
+        return index;
+
+    }
+
+}
@@ -0,0 +1,75 @@
+package the_monitor.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import the_monitor.domain.model.ReportArticle;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+// ReportArticle.id도 IDENTITY 전략이라 보고서 생성 시 복사되는 기사는 multi-row INSERT로 저장
+@Repository
+@RequiredArgsConstructor
+public class JdbcReportArticleRepository {
+
+    private static final int ROWS_PER_STATEMENT = 100;
+
+    private static final String INSERT_PREFIX = "INSERT INTO report_articles (" +
+            "report_article_title, report_article_keyword, report_article_url, report_article_publisher_name, " +
+            "report_article_reporter_name, report_article_publish_date, report_article_published_at, report_article_summary, " +
+            "report_article_category_type, report_category_id, created_at, updated_at) VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // reportCategory는 이미 저장되어 id가 있어야 함
+    public int insertAll(List<ReportArticle> reportArticles) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int affected = 0;
+
+        for (int from = 0; from < reportArticles.size(); from += ROWS_PER_STATEMENT) {
+            List<ReportArticle> chunk = reportArticles.subList(from, Math.min(from + ROWS_PER_STATEMENT, reportArticles.size()));
+
+            affected += jdbcTemplate.update(buildInsertSql(chunk.size()), ps -> {
+                int index = 1;
+                for (ReportArticle reportArticle : chunk) {
+                    index = bindReportArticle(ps, index, reportArticle, now);
+                }
+            });
+        }
+
+        return affected;
+
+    }
+
+    private String buildInsertSql(int rows) {
+        return INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, ROW_PLACEHOLDER));
+    }
+
+    private int bindReportArticle(PreparedStatement ps, int index, ReportArticle reportArticle, Timestamp now) throws SQLException {
+
+        ps.setString(index++, reportArticle.getTitle());
+        ps.setString(index++, reportArticle.getKeyword());
+        ps.setString(index++, reportArticle.getUrl());
+        ps.setString(index++, reportArticle.getPublisherName());
+        ps.setString(index++, reportArticle.getReporterName());
+        ps.setString(index++, reportArticle.getPublishDate());
+        ps.setTimestamp(index++, reportArticle.getPublishedAt() == null ? null : Timestamp.valueOf(reportArticle.getPublishedAt()));
+        ps.setString(index++, reportArticle.getSummary());
+        ps.setString(index++, reportArticle.getCategoryType().name());
+        ps.setLong(index++, reportArticle.getReportCategory().getId());
+        ps.setTimestamp(index++, now);
+        ps.setTimestamp(index++, now);
+
+        return index;
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package the_monitor.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import the_monitor.infrastructure.utils.PublishDateParser;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// published_at 컬럼 추가 이전에 저장된 행의 발행일을 기동 후 백그라운드에서 한 번 채움
+// 해석할 수 없는 행은 null로 남고 id 커서로 건너뛰므로 반복 실행해도 같은 행을 다시 읽지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublishedAtBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${publish-date.backfill.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+
+        if (!enabled) {
+            return;
+        }
+
+        Thread.ofVirtual().name("published-at-backfill").start(() -> {
+            try {
+                backfill("articles", "article_id", "article_publish_date", "article_published_at");
+                backfill("report_articles", "report_article_id", "report_article_publish_date", "report_article_published_at");
+                backfill("scraps", "scrap_id", "scrap_publish_date", "scrap_published_at");
+            } catch (Exception e) {
+                log.warn("발행일 백필 중단: {}", e.getMessage());
+            }
+        });
+
+    }
+
+    private void backfill(String table, String idColumn, String rawColumn, String parsedColumn) {
+
+        String selectSql = "SELECT " + idColumn + ", " + rawColumn + " FROM " + table +
+                " WHERE " + parsedColumn + " IS NULL AND " + rawColumn + " IS NOT NULL AND " + idColumn + " > ?" +
+                " ORDER BY " + idColumn + " LIMIT " + BATCH_SIZE;
+        String updateSql = "UPDATE " + table + " SET " + parsedColumn + " = ? WHERE " + idColumn + " = ?";
+
+        long lastId = 0;
+        int updated = 0;
+
+        while (true) {
+            List<Object[]> updates = new ArrayList<>();
+            List<Long> ids = new ArrayList<>();
+
+            jdbcTemplate.query(selectSql, rs -> {
+                long id = rs.getLong(1);
+                ids.add(id);
+
+                LocalDateTime publishedAt = PublishDateParser.parse(rs.getString(2));
+                if (publishedAt != null) {
+                    updates.add(new Object[]{Timestamp.valueOf(publishedAt), id});
+                }
+            }, lastId);
+
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(updateSql, updates);
+                updated += updates.size();
+            }
+
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        if (updated > 0) {
+            log.info("{} 발행일 백필 완료: {}건", table, updated);
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package the_monitor.infrastructure.ratelimit;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 외부 API 재시도 대기 시간 계산 (지수 백오프 + full jitter)
+public final class RetryBackoff {
+
+    private RetryBackoff() {
+    }
+
+    // 0 ~ min(max, base * 2^(attempt-1)) 사이 무작위 대기, Retry-After가 더 길면 그 값을 따름
+    public static long delayMillis(int attempt, long retryAfterMillis, long baseMs, long maxMs) {
+        long ceiling = Math.min(maxMs, baseMs << Math.min(attempt - 1, 20));
+        return Math.max(retryAfterMillis, ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    // Retry-After 헤더(초 단위), 없거나 형식이 다르면 0
+    public static long retryAfterMillis(HttpHeaders headers, long maxMs) {
+
+        String retryAfter = headers != null ? headers.getFirst(HttpHeaders.RETRY_AFTER) : null;
+        if (retryAfter == null) {
+            return 0;
+        }
+
+        try {
+            return Math.min(maxMs, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+
+    }
+
+    public static void sleep(long delayMillis) {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Retry backoff interrupted", e);
+        }
+    }
+
+}
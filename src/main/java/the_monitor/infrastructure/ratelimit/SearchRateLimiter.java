@@ -0,0 +1,195 @@
+package the_monitor.infrastructure.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import the_monitor.common.ApiException;
+import the_monitor.common.ErrorStatus;
+import the_monitor.domain.enums.SearchPriority;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 검색 API 키별 초당 요청 수(token bucket)와 일일 사용량을 함께 제한
+// configure()로 등록하지 않은 키는 google.api.* 설정을 사용
+@Slf4j
+@Component
+public class SearchRateLimiter {
+
+    @Value("${google.api.requests-per-second:10}")
+    private double requestsPerSecond;
+
+    @Value("${google.api.burst:10}")
+    private int burst;
+
+    @Value("${google.api.daily-quota:10000}")
+    private long dailyQuota;
+
+    // 일일 사용량 중 사용자 요청용으로 남겨 두는 비율 (백그라운드 수집은 이 구간을 쓰지 못함)
+    @Value("${google.api.interactive-reserve-ratio:0.1}")
+    private double interactiveReserveRatio;
+
+    // Google API 일일 사용량은 태평양 시간 자정에 초기화
+    @Value("${google.api.quota-zone:America/Los_Angeles}")
+    private String quotaZone;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition available = lock.newCondition();
+
+    private final Map<String, KeyQuota> quotas = new HashMap<>();
+    private final Map<String, KeyLimits> limits = new HashMap<>();
+
+    private int waitingInteractive;
+
+    // 키별 초당 요청 수/버스트/일일 사용량 등록 (공급자마다 한도가 다름), 이미 쌓인 오늘 사용량은 유지
+    public void configure(String apiKey, double keyRequestsPerSecond, int keyBurst, long keyDailyQuota) {
+
+        lock.lock();
+        try {
+            KeyLimits keyLimits = new KeyLimits(keyRequestsPerSecond, keyBurst, keyDailyQuota);
+            limits.put(apiKey, keyLimits);
+
+            KeyQuota quota = quotas.get(apiKey);
+            if (quota != null) {
+                quota.limits = keyLimits;
+                quota.tokens = Math.min(quota.tokens, keyBurst);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+    }
+
+    // 요청 1건을 보낼 수 있을 때까지 대기, 일일 사용량을 넘으면 예외
+    public void acquire(String apiKey, SearchPriority priority) {
+
+        lock.lock();
+        try {
+            if (priority == SearchPriority.INTERACTIVE) {
+                waitingInteractive++;
+            }
+
+            try {
+                KeyQuota quota = quotas.computeIfAbsent(apiKey, key -> new KeyQuota(limitsOf(key)));
+                while (true) {
+                    // 사용자 요청이 대기 중이면 백그라운드 요청은 양보
+                    if (priority == SearchPriority.BACKGROUND && waitingInteractive > 0) {
+                        available.await();
+                        continue;
+                    }
+
+                    quota.checkDailyBudget(priority);
+
+                    long waitNanos = quota.tryConsume();
+                    if (waitNanos == 0) {
+                        return;
+                    }
+                    available.awaitNanos(waitNanos);
+                }
+            } finally {
+                if (priority == SearchPriority.INTERACTIVE) {
+                    waitingInteractive--;
+                }
+                available.signalAll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Search rate limiter interrupted", e);
+        } finally {
+            lock.unlock();
+        }
+
+    }
+
+    // 오늘 남은 일일 사용량
+    public long getRemainingDailyBudget(String apiKey) {
+
+        lock.lock();
+        try {
+            KeyQuota quota = quotas.get(apiKey);
+            if (quota == null) {
+                return limitsOf(apiKey).dailyQuota();
+            }
+            quota.resetIfNewDay();
+            return Math.max(0, quota.limits.dailyQuota() - quota.usedToday);
+        } finally {
+            lock.unlock();
+        }
+
+    }
+
+    private KeyLimits limitsOf(String apiKey) {
+        KeyLimits keyLimits = limits.get(apiKey);
+        return keyLimits != null ? keyLimits : new KeyLimits(requestsPerSecond, burst, dailyQuota);
+    }
+
+    private record KeyLimits(double requestsPerSecond, int burst, long dailyQuota) {
+    }
+
+    // lock을 잡은 상태에서만 접근
+    private class KeyQuota {
+
+        private KeyLimits limits;
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        private LocalDate budgetDate = today();
+        private long usedToday;
+
+        private KeyQuota(KeyLimits limits) {
+            this.limits = limits;
+            this.tokens = limits.burst();
+        }
+
+        // 토큰이 있으면 소비 후 0, 없으면 토큰 1개가 찰 때까지 남은 시간(ns) 반환
+        private long tryConsume() {
+
+            long now = System.nanoTime();
+            tokens = Math.min(limits.burst(), tokens + (now - lastRefillNanos) * limits.requestsPerSecond() / TimeUnit.SECONDS.toNanos(1));
+            lastRefillNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                usedToday++;
+                return 0;
+            }
+
+            return (long) Math.ceil((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / limits.requestsPerSecond());
+
+        }
+
+        private void checkDailyBudget(SearchPriority priority) {
+
+            resetIfNewDay();
+
+            long limit = priority == SearchPriority.INTERACTIVE
+                    ? limits.dailyQuota()
+                    : (long) (limits.dailyQuota() * (1 - interactiveReserveRatio));
+
+            if (usedToday >= limit) {
+                log.warn("검색 API 일일 사용량 초과: priority={}, used={}, limit={}", priority, usedToday, limit);
+                throw new ApiException(ErrorStatus._SEARCH_QUOTA_EXCEEDED);
+            }
+
+        }
+
+        private void resetIfNewDay() {
+            LocalDate today = today();
+            if (!today.equals(budgetDate)) {
+                budgetDate = today;
+                usedToday = 0;
+            }
+        }
+
+        private LocalDate today() {
+            return LocalDate.now(ZoneId.of(quotaZone));
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+package the_monitor.infrastructure.resilience;
+
+// 최근 호출 결과(개수 기반 윈도우)의 실패율로 열리는 서킷 브레이커
+// CLOSED: 정상 호출 / OPEN: openDurationMs 동안 즉시 거절 / HALF_OPEN: 제한된 시험 호출의 결과로 CLOSED 또는 OPEN 결정
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMs;
+    private final int halfOpenMaxCalls;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenCalls;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMs, int halfOpenMaxCalls) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenMaxCalls = halfOpenMaxCalls;
+        this.window = new boolean[windowSize];
+    }
+
+    // 호출 가능 여부, HALF_OPEN에서는 시험 호출 수만큼만 허용
+    public synchronized boolean tryAcquirePermission() {
+
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenCalls = 0;
+            halfOpenSuccesses = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenCalls >= halfOpenMaxCalls) {
+                return false;
+            }
+            halfOpenCalls++;
+        }
+
+        return true;
+
+    }
+
+    public synchronized void onSuccess() {
+
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= halfOpenMaxCalls) {
+                close();
+            }
+            return;
+        }
+
+        record(false);
+
+    }
+
+    public synchronized void onFailure() {
+
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+
+        record(true);
+
+        if (recordedCalls >= minimumCalls && (double) failedCalls / recordedCalls >= failureRateThreshold) {
+            open();
+        }
+
+    }
+
+    // 실패로도 성공으로도 보지 않는 호출 (HALF_OPEN 시험 호출 자리만 반납)
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenCalls > 0) {
+            halfOpenCalls--;
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void record(boolean failed) {
+
+        if (recordedCalls == windowSize) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+    }
+
+}
@@ -0,0 +1,108 @@
+package the_monitor.infrastructure.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import the_monitor.common.ApiException;
+import the_monitor.common.ErrorStatus;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 검색 공급자별 서킷 브레이커 + 벌크헤드 (동시 외부 검색 요청 수 제한), 공급자 구현이 HTTP 요청마다 execute로 감쌈
+// 공급자 장애 시 요청 스레드가 재시도에 묶이지 않고 바로 실패하도록 해 리포트/스크랩/메일 등 나머지 API를 보호
+@Slf4j
+@Component
+public class SearchProviderGuard {
+
+    @Value("${search.resilience.window-size:20}")
+    private int windowSize;
+
+    @Value("${search.resilience.minimum-calls:5}")
+    private int minimumCalls;
+
+    @Value("${search.resilience.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${search.resilience.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${search.resilience.half-open-max-calls:2}")
+    private int halfOpenMaxCalls;
+
+    // 공급자별 동시 호출 수
+    @Value("${search.resilience.max-concurrent-calls:16}")
+    private int maxConcurrentCalls;
+
+    // 벌크헤드 자리를 기다리는 최대 시간
+    @Value("${search.resilience.max-wait-ms:2000}")
+    private long maxWaitMs;
+
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Semaphore> bulkheads = new ConcurrentHashMap<>();
+
+    public <T> T execute(String provider, Supplier<T> call) {
+
+        CircuitBreaker circuitBreaker = circuitBreaker(provider);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new ApiException(ErrorStatus._SEARCH_CIRCUIT_OPEN);
+        }
+
+        Semaphore bulkhead = bulkheads.computeIfAbsent(provider, key -> new Semaphore(maxConcurrentCalls));
+        if (!tryAcquire(bulkhead)) {
+            circuitBreaker.onIgnored();
+            throw new ApiException(ErrorStatus._SEARCH_BUSY);
+        }
+
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (ApiException e) {
+            // 잘못된 요청(4xx)은 공급자 장애가 아니므로 실패율에 포함하지 않음
+            if (e.getErrorStatus() == ErrorStatus._SEARCH_REQUEST_REJECTED) {
+                circuitBreaker.onIgnored();
+            } else {
+                recordFailure(provider, circuitBreaker);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            recordFailure(provider, circuitBreaker);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+
+    }
+
+    public CircuitBreaker.State getState(String provider) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(provider);
+        return circuitBreaker != null ? circuitBreaker.getState() : CircuitBreaker.State.CLOSED;
+    }
+
+    private CircuitBreaker circuitBreaker(String provider) {
+        return circuitBreakers.computeIfAbsent(provider, key ->
+                new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDurationMs, halfOpenMaxCalls));
+    }
+
+    private boolean tryAcquire(Semaphore bulkhead) {
+        try {
+            return bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void recordFailure(String provider, CircuitBreaker circuitBreaker) {
+        CircuitBreaker.State before = circuitBreaker.getState();
+        circuitBreaker.onFailure();
+        if (before != CircuitBreaker.State.OPEN && circuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            log.warn("검색 공급자 서킷 열림: provider={}", provider);
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package the_monitor.infrastructure.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.application.service.GoogleSearchService;
+import the_monitor.application.service.SearchProvider;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 기본 공급자: 키워드의 과거 수집량(resultCount)은 Google 페이지 산정 기준
+@Order(1)
+@Component
+@RequiredArgsConstructor
+public class GoogleSearchProvider implements SearchProvider {
+
+    public static final String NAME = "google";
+
+    private final GoogleSearchService googleSearchService;
+
+    @Value("${search.providers.google.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<ArticleResponse> search(List<Keyword> keywords, SearchPriority priority) {
+        return googleSearchService.toDtos(keywords, priority);
+    }
+
+    @Override
+    public ArticleResponse searchSince(Keyword keyword, LocalDateTime since, LocalDateTime until, int maxPages, SearchPriority priority) {
+        return googleSearchService.searchSince(keyword, since, until, maxPages, priority);
+    }
+
+    @Override
+    public long getRemainingDailyBudget() {
+        return googleSearchService.getRemainingDailyBudget();
+    }
+
+}
@@ -0,0 +1,208 @@
+package the_monitor.infrastructure.search;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import the_monitor.application.dto.ArticleGoogleDto;
+import the_monitor.application.dto.SearchPageDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// Custom Search 응답 스트리밍 파서
+// 트리(JsonNode)를 만들지 않고 필요한 필드만 읽으며, pagemap의 나머지 하위 트리는 건너뜀
+@Component
+public class GoogleSearchResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public GoogleSearchResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public SearchPageDto parse(InputStream body) throws IOException {
+
+        List<ArticleGoogleDto> articles = new ArrayList<>();
+        int totalResults = 0;
+        int itemCount = 0;
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return page(articles, totalResults, itemCount);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                if ("searchInformation".equals(field) && token == JsonToken.START_OBJECT) {
+                    totalResults = readTotalResults(parser);
+                } else if ("items".equals(field) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        itemCount++;
+                        ArticleGoogleDto article = readItem(parser);
+                        if (article != null) {
+                            articles.add(article);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return page(articles, totalResults, itemCount);
+
+    }
+
+    // searchInformation.totalResults (문자열로 내려옴)
+    private int readTotalResults(JsonParser parser) throws IOException {
+
+        int totalResults = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            if ("totalResults".equals(field)) {
+                try {
+                    totalResults = (int) Math.min(Integer.MAX_VALUE, Long.parseLong(parser.getValueAsString("0")));
+                } catch (NumberFormatException e) {
+                    totalResults = 0;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return totalResults;
+
+    }
+
+    // items[] 한 건, 출판사와 게시일이 모두 없으면 null
+    private ArticleGoogleDto readItem(JsonParser parser) throws IOException {
+
+        String title = "";
+        String snippet = "";
+        String link = "";
+        PageMap pageMap = new PageMap();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            switch (field) {
+                case "title" -> title = parser.getValueAsString("");
+                case "snippet" -> snippet = parser.getValueAsString("");
+                case "link" -> link = parser.getValueAsString("");
+                case "pagemap" -> {
+                    if (token == JsonToken.START_OBJECT) {
+                        readPageMap(parser, pageMap);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (pageMap.publisher.isEmpty() && pageMap.publishDate.isEmpty()) {
+            return null;
+        }
+
+        return ArticleGoogleDto.builder()
+                .title(title)
+                .body(snippet)
+                .url(link)
+                .imageUrl(pageMap.imageUrl)
+                .publisherName(pageMap.publisher)
+                .publishDate(pageMap.publishDate)
+                .reporterName(pageMap.reporter)
+                .build();
+
+    }
+
+    // pagemap에서 cse_image[0].src와 metatags[0]의 세 필드만 읽음
+    private void readPageMap(JsonParser parser, PageMap pageMap) throws IOException {
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if ("cse_image".equals(field) && token == JsonToken.START_ARRAY) {
+                readFirstElement(parser, (name) -> {
+                    if ("src".equals(name)) {
+                        pageMap.imageUrl = parser.getValueAsString("");
+                        return true;
+                    }
+                    return false;
+                });
+            } else if ("metatags".equals(field) && token == JsonToken.START_ARRAY) {
+                readFirstElement(parser, (name) -> switch (name) {
+                    case "og:site_name" -> {
+                        pageMap.publisher = parser.getValueAsString("");
+                        yield true;
+                    }
+                    case "article:published_time" -> {
+                        pageMap.publishDate = parser.getValueAsString("");
+                        yield true;
+                    }
+                    case "dable:author" -> {
+                        pageMap.reporter = parser.getValueAsString("");
+                        yield true;
+                    }
+                    default -> false;
+                });
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+    }
+
+    // 배열의 첫 번째 객체 필드만 reader로 넘기고 나머지 요소는 건너뜀 (파서는 배열 끝에 위치)
+    private void readFirstElement(JsonParser parser, FieldReader reader) throws IOException {
+
+        boolean first = true;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (first && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    parser.nextToken();
+                    if (!reader.read(name)) {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+
+    }
+
+    private SearchPageDto page(List<ArticleGoogleDto> articles, int totalResults, int itemCount) {
+        return SearchPageDto.builder()
+                .articles(articles)
+                .totalResults(totalResults)
+                .itemCount(itemCount)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        // 필드 값을 읽었으면 true, 건너뛸 필드면 false
+        boolean read(String name) throws IOException;
+    }
+
+    private static class PageMap {
+        private String imageUrl = "";
+        private String publisher = "";
+        private String publishDate = "";
+        private String reporter = "";
+    }
+
+}
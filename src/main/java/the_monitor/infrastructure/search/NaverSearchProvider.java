@@ -0,0 +1,54 @@
+package the_monitor.infrastructure.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.application.service.NaverSearchService;
+import the_monitor.application.service.SearchProvider;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 국내 뉴스 보강용 공급자, 클라이언트 ID/Secret이 없으면 비활성
+@Order(2)
+@Component
+@RequiredArgsConstructor
+public class NaverSearchProvider implements SearchProvider {
+
+    public static final String NAME = "naver";
+
+    private final NaverSearchService naverSearchService;
+
+    @Value("${search.providers.naver.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled && naverSearchService.isConfigured();
+    }
+
+    @Override
+    public List<ArticleResponse> search(List<Keyword> keywords, SearchPriority priority) {
+        return naverSearchService.toDtos(keywords, priority);
+    }
+
+    @Override
+    public ArticleResponse searchSince(Keyword keyword, LocalDateTime since, LocalDateTime until, int maxPages, SearchPriority priority) {
+        return naverSearchService.searchSince(keyword.getKeyword(), since, until, maxPages, priority);
+    }
+
+    @Override
+    public long getRemainingDailyBudget() {
+        return naverSearchService.getRemainingDailyBudget();
+    }
+
+}
@@ -0,0 +1,103 @@
+package the_monitor.infrastructure.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import the_monitor.application.dto.ArticleGoogleDto;
+import the_monitor.application.dto.response.ArticleResponse;
+import the_monitor.application.service.SearchProvider;
+import the_monitor.domain.enums.SearchPriority;
+import the_monitor.domain.model.Keyword;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+// 외부 API 없이 동작하는 로컬 공급자 (개발/오프라인 환경에서 동시 검색, 병합, 중복 제거 확인용)
+// 같은 키워드에는 항상 같은 URL을 반환하므로 중복 제거 동작도 확인 가능
+@Order(3)
+@Component
+public class StubSearchProvider implements SearchProvider {
+
+    @Value("${search.providers.stub.enabled:false}")
+    private boolean enabled;
+
+    @Value("${search.providers.stub.articles-per-keyword:5}")
+    private int articlesPerKeyword;
+
+    // 공급자 지연 흉내
+    @Value("${search.providers.stub.latency-ms:0}")
+    private long latencyMs;
+
+    @Override
+    public String getName() {
+        return "stub";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<ArticleResponse> search(List<Keyword> keywords, SearchPriority priority) {
+        return keywords.stream()
+                .map(keyword -> articles(keyword.getKeyword()))
+                .toList();
+    }
+
+    @Override
+    public ArticleResponse searchSince(Keyword keyword, LocalDateTime since, LocalDateTime until, int maxPages, SearchPriority priority) {
+        return articles(keyword.getKeyword());
+    }
+
+    @Override
+    public long getRemainingDailyBudget() {
+        return -1;
+    }
+
+    private ArticleResponse articles(String keyword) {
+
+        sleep();
+
+        String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+        String publishDate = OffsetDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+
+        List<ArticleGoogleDto> articles = new ArrayList<>();
+        for (int i = 1; i <= articlesPerKeyword; i++) {
+            articles.add(ArticleGoogleDto.builder()
+                    .title(keyword + " 기사 " + i)
+                    .body(keyword + " 관련 테스트 기사입니다.")
+                    .url("https://stub.local/articles/" + encodedKeyword + "/" + i)
+                    .imageUrl("")
+                    .publisherName("stub.local")
+                    .publishDate(publishDate)
+                    .reporterName("")
+                    .build());
+        }
+
+        return ArticleResponse.builder()
+                .googleArticles(articles)
+                .totalResults(articles.size())
+                .fetchedResults(articles.size())
+                .build();
+
+    }
+
+    private void sleep() {
+        if (latencyMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Stub search interrupted", e);
+        }
+    }
+
+}
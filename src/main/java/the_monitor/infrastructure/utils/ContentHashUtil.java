@@ -0,0 +1,28 @@
+package the_monitor.infrastructure.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class ContentHashUtil {
+
+    private ContentHashUtil() {
+    }
+
+    // 스트림을 끝까지 읽으며 SHA-256 계산 (내용 전체를 메모리에 올리지 않음)
+    public static String sha256Hex(InputStream inputStream) throws IOException {
+
+        try (DigestInputStream digestStream = new DigestInputStream(inputStream, MessageDigest.getInstance("SHA-256"))) {
+            digestStream.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(digestStream.getMessageDigest().digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+    }
+
+}
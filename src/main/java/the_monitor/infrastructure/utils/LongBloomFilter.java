@@ -0,0 +1,67 @@
+package the_monitor.infrastructure.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 64비트 키 전용 Bloom filter, false면 확실히 없음 / true면 있을 수도 있음
+public class LongBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    public LongBloomFilter(long expectedInsertions, double falsePositiveRate) {
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+
+    }
+
+    public boolean mightContain(long key) {
+
+        long hash1 = mix(key);
+        long hash2 = mix(hash1);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    public void put(long key) {
+
+        long hash1 = mix(key);
+        long hash2 = mix(hash1);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+
+            long word;
+            do {
+                word = bits.get(wordIndex);
+            } while ((word & mask) == 0 && !bits.compareAndSet(wordIndex, word, word | mask));
+        }
+
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package the_monitor.infrastructure.utils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+public class PublishDateParser {
+
+    // 발행일과 수집 워터마크를 비교하는 기준 시간대 (서버 시간대와 무관하게 고정)
+    // 오프셋이 없는 발행일 문자열은 국내 언론사 기준이므로 이 시간대의 시각으로 간주
+    public static final ZoneId PUBLISH_ZONE = ZoneId.of("Asia/Seoul");
+
+    // 포맷터는 불변/스레드 안전하므로 한 번만 생성
+    private static final DateTimeFormatter DOTTED_DATE_TIME = DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm");
+    private static final DateTimeFormatter DASHED_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private PublishDateParser() {
+    }
+
+    // 수집 소스별로 다른 발행일 문자열을 LocalDateTime(PUBLISH_ZONE 기준)으로 변환, 해석할 수 없으면 null
+    // 문자열 모양으로 포맷을 먼저 고르므로 포맷을 차례로 시도하며 예외를 던지는 일이 없음
+    public static LocalDateTime parse(String publishDate) {
+
+        if (publishDate == null || publishDate.isBlank()) {
+            return null;
+        }
+
+        String text = publishDate.trim();
+
+        try {
+            // RFC 1123 (네이버 pubDate): "Tue, 10 Dec 2024 09:30:00 +0900"
+            if (Character.isLetter(text.charAt(0))) {
+                return toLocal(OffsetDateTime.parse(text, DateTimeFormatter.RFC_1123_DATE_TIME));
+            }
+
+            if (text.length() < 10) {
+                return null;
+            }
+
+            // ISO 8601 (Google article:published_time): "2024-12-10T09:30:00+09:00", "2024-12-10T00:30:00Z"
+            if (text.length() > 10 && text.charAt(10) == 'T') {
+                return hasOffset(text)
+                        ? toLocal(OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                        : LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            }
+
+            // "2024.12.10 09:30"
+            if (text.charAt(4) == '.') {
+                return LocalDateTime.parse(text, DOTTED_DATE_TIME);
+            }
+
+            // "2024-12-10"
+            if (text.length() == 10) {
+                return LocalDate.parse(text, DateTimeFormatter.ISO_LOCAL_DATE).atStartOfDay();
+            }
+
+            // "2024-12-10 09:30:00"
+            return LocalDateTime.parse(text, DASHED_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+
+    }
+
+    // 워터마크(lastCrawledAt)를 발행일과 같은 시간대로 기록하기 위한 현재 시각
+    public static LocalDateTime now() {
+        return LocalDateTime.now(PUBLISH_ZONE);
+    }
+
+    private static boolean hasOffset(String text) {
+        return text.endsWith("Z") || text.indexOf('+', 10) > 0 || text.indexOf('-', 10) > 0;
+    }
+
+    private static LocalDateTime toLocal(OffsetDateTime dateTime) {
+        return dateTime.atZoneSameInstant(PUBLISH_ZONE).toLocalDateTime();
+    }
+
+}
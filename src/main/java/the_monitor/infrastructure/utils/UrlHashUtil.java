@@ -0,0 +1,83 @@
+package the_monitor.infrastructure.utils;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public class UrlHashUtil {
+
+    private UrlHashUtil() {
+    }
+
+    // 정규화된 URL의 SHA-256 앞 8바이트 (기사 중복 판별용 고정 길이 키)
+    public static Long hash(String url) {
+
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(normalize(url).getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+    }
+
+    // scheme, www, fragment, 끝 슬래시, 추적용 파라미터 차이는 같은 URL로 취급
+    public static String normalize(String url) {
+
+        String trimmed = url.trim();
+
+        try {
+            URI uri = URI.create(trimmed);
+            if (uri.getHost() == null) {
+                return trimmed.toLowerCase(Locale.ROOT);
+            }
+
+            String host = uri.getHost().toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            }
+
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            while (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            String query = normalizeQuery(uri.getRawQuery());
+
+            return host + (uri.getPort() == -1 ? "" : ":" + uri.getPort()) + path + (query.isEmpty() ? "" : "?" + query);
+        } catch (IllegalArgumentException e) {
+            return trimmed.toLowerCase(Locale.ROOT);
+        }
+
+    }
+
+    private static String normalizeQuery(String rawQuery) {
+
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+
+        return Arrays.stream(rawQuery.split("&"))
+                .filter(param -> !param.isEmpty())
+                .filter(param -> !isTrackingParam(param))
+                .sorted()
+                .collect(Collectors.joining("&"));
+
+    }
+
+    private static boolean isTrackingParam(String param) {
+        String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+        return name.startsWith("utm_") || name.equals("fbclid") || name.equals("gclid");
+    }
+
+}
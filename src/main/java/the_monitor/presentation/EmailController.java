@@ -1,7 +1,6 @@
 package the_monitor.presentation;
 
 import io.swagger.v3.oas.annotations.Operation;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -9,12 +8,16 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import the_monitor.application.dto.request.EmailSendRequest;
 import the_monitor.application.dto.request.EmailUpdateRequest;
+import the_monitor.application.dto.request.ReportDistributionRequest;
 import the_monitor.application.dto.response.EmailResponse;
 import the_monitor.application.dto.response.EmailSendResponse;
+import the_monitor.application.dto.response.MailOutboxResponse;
+import the_monitor.application.dto.response.ReportDistributionResponse;
 import the_monitor.application.service.EmailService;
+import the_monitor.application.service.MailOutboxService;
+import the_monitor.application.service.ReportDistributionService;
 import the_monitor.common.ApiResponse;
 
-import java.io.UnsupportedEncodingException;
 
 @RestController
 @RequestMapping("/api/v1/emails")
@@ -22,6 +25,8 @@ import java.io.UnsupportedEncodingException;
 public class EmailController {
 
     private final EmailService emailService;
+    private final MailOutboxService mailOutboxService;
+    private final ReportDistributionService reportDistributionService;
 
     @Operation(summary = "이메일 조회", description = "clientId에 따른 이메일 리스트를 조회합니다.")
     @GetMapping
@@ -40,12 +45,36 @@ public class EmailController {
 
     }
 
-    @Operation(summary = "이메일 전송", description = "완성된 보고서를 고객사에게 전송합니다.")
+    @Operation(summary = "이메일 전송", description = "완성된 보고서를 고객사에게 전송합니다. 발송은 대기열에서 비동기로 처리되며 mailId로 상태를 조회할 수 있습니다.")
     @PostMapping(value = "/send")
     public ApiResponse<EmailSendResponse> sendReport(@RequestParam("reportId") Long reportId,
-                                                     @RequestBody @Valid EmailSendRequest emailSendRequest) throws MessagingException, UnsupportedEncodingException {
+                                                     @RequestBody @Valid EmailSendRequest emailSendRequest) {
 
-        return ApiResponse.onSuccessData("이메일 전송 성공", emailService.sendReportEmailWithAttachment(reportId,emailSendRequest.getSubject(), emailSendRequest.getContent()));
+        return ApiResponse.onSuccessData("이메일 전송 요청 성공", emailService.sendReportEmailWithAttachment(reportId,emailSendRequest.getSubject(), emailSendRequest.getContent()));
+
+    }
+
+    @Operation(summary = "보고서 일괄 발송", description = "여러 보고서를 각 고객사의 수신자에게 수신자별 메일로 발송합니다. 제목/본문의 {{clientName}}, {{reportTitle}}, {{recipientEmail}}은 수신자별로 치환됩니다.")
+    @PostMapping("/distributions")
+    public ApiResponse<ReportDistributionResponse> distributeReports(@RequestBody @Valid ReportDistributionRequest request) {
+
+        return ApiResponse.onSuccessData("보고서 일괄 발송 요청 성공", reportDistributionService.distributeReports(request));
+
+    }
+
+    @Operation(summary = "보고서 일괄 발송 상태 조회", description = "일괄 발송 요청의 상태별 메일 수와 수신자별 발송 상태를 조회합니다.")
+    @GetMapping("/distributions/{distributionId}")
+    public ApiResponse<ReportDistributionResponse> getDistribution(@PathVariable("distributionId") Long distributionId) {
+
+        return ApiResponse.onSuccessData("보고서 일괄 발송 상태 조회 성공", reportDistributionService.getDistribution(distributionId));
+
+    }
+
+    @Operation(summary = "이메일 발송 상태 조회", description = "전송 요청한 메일의 발송 상태(대기, 발송 중, 완료, 실패)와 재시도 횟수를 조회합니다.")
+    @GetMapping("/outbox/{mailId}")
+    public ApiResponse<MailOutboxResponse> getMailStatus(@PathVariable("mailId") Long mailId) {
+
+        return ApiResponse.onSuccessData("이메일 발송 상태 조회 성공", mailOutboxService.getMail(mailId));
 
     }
 
@@ -0,0 +1,28 @@
+package the_monitor.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import the_monitor.application.dto.response.IngestionJobResponse;
+import the_monitor.application.service.IngestionJobService;
+import the_monitor.common.ApiResponse;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/ingestion-jobs")
+public class IngestionJobController {
+
+    private final IngestionJobService ingestionJobService;
+
+    @Operation(summary = "기사 수집 작업 조회", description = "고객사 생성 시 등록된 기사 수집 작업의 진행 상황(완료 키워드 수, 저장 기사 수)을 조회합니다.")
+    @GetMapping("/{jobId}")
+    public ApiResponse<IngestionJobResponse> getIngestionJob(@PathVariable("jobId") Long jobId) {
+
+        return ApiResponse.onSuccessData("수집 작업 조회 성공", ingestionJobService.getJob(jobId));
+
+    }
+
+}
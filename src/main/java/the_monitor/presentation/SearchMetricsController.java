@@ -0,0 +1,27 @@
+package the_monitor.presentation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import the_monitor.application.dto.response.SearchMetricsResponse;
+import the_monitor.application.service.SearchMetricsService;
+import the_monitor.common.ApiResponse;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/search/metrics")
+public class SearchMetricsController {
+
+    private final SearchMetricsService searchMetricsService;
+
+    @Operation(summary = "검색 지표 조회", description = "선택한 고객사 키워드별 Google 검색 페이지 요청/생략 횟수와 검색 결과 캐시 적중률을 조회합니다.")
+    @GetMapping
+    public ApiResponse<SearchMetricsResponse> getSearchMetrics() {
+
+        return ApiResponse.onSuccessData("검색 지표 조회 성공", searchMetricsService.getSearchMetrics());
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package the_monitor.domain.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import the_monitor.domain.enums.CategoryType;
+import the_monitor.domain.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 보고서 상세 조회(ReportServiceImpl.getReportDetail)가 카테고리 수와 무관하게 2개 쿼리로 끝나는지 확인
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true"
+})
+class ReportDetailQueryCountTest {
+
+    private static final int CATEGORY_COUNT = 3;
+    private static final int ARTICLES_PER_CATEGORY = 4;
+
+    // Redis/S3/JDBC 저장소 설정 없이 JPA 엔티티와 저장소만 로딩
+    @SpringBootConfiguration
+    @EntityScan(basePackages = "the_monitor.domain.model")
+    @EnableJpaRepositories(basePackages = "the_monitor.domain.repository")
+    @EnableJpaAuditing
+    static class JpaTestConfig {
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private ReportCategoryRepository reportCategoryRepository;
+
+    private Statistics statistics;
+    private Long clientId;
+    private Long reportId;
+
+    @BeforeEach
+    void setUp() {
+
+        Account account = entityManager.persist(Account.builder()
+                .email("monitor@example.com")
+                .password("password")
+                .companyName("The Monitor")
+                .managerName("manager")
+                .agreement(true)
+                .clients(new ArrayList<>())
+                .build());
+
+        Client client = entityManager.persist(Client.builder()
+                .name("client")
+                .managerName("manager")
+                .account(account)
+                .scraps(new ArrayList<>())
+                .reports(new ArrayList<>())
+                .build());
+
+        Report report = entityManager.persist(Report.builder()
+                .title("weekly report")
+                .client(client)
+                .logo("https://example.com/logo.png")
+                .color("#000000")
+                .reportCategories(new ArrayList<>())
+                .build());
+
+        CategoryType[] categoryTypes = CategoryType.values();
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            CategoryType categoryType = categoryTypes[i % categoryTypes.length];
+            ReportCategory category = entityManager.persist(ReportCategory.builder()
+                    .categoryType(categoryType)
+                    .name("category " + i)
+                    .report(report)
+                    .reportArticles(new ArrayList<>())
+                    .isDefault(i == 0)
+                    .build());
+
+            for (int j = 0; j < ARTICLES_PER_CATEGORY; j++) {
+                entityManager.persist(ReportArticle.builder()
+                        .title("article " + i + "-" + j)
+                        .keyword("keyword")
+                        .url("https://example.com/articles/" + i + "/" + j)
+                        .publishDate("2024-12-10 09:30:00")
+                        .categoryType(categoryType)
+                        .reportCategory(category)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        clientId = client.getId();
+        reportId = report.getId();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+    }
+
+    @Test
+    void reportDetailLoadsInTwoStatements() {
+
+        // getReportDetail과 같은 순서로 조회하고 응답 생성 시 접근하는 연관 관계를 모두 읽음
+        Report report = reportRepository.findDetailByClientIdAndReportId(clientId, reportId).orElseThrow();
+        Long accountId = report.getClient().getAccount().getId();
+
+        List<ReportCategory> categories = reportCategoryRepository.findWithArticlesByReportId(reportId);
+        int articleCount = categories.stream()
+                .mapToInt(category -> category.getReportArticles().stream()
+                        .map(ReportArticle::getTitle)
+                        .toList()
+                        .size())
+                .sum();
+
+        assertThat(accountId).isNotNull();
+        assertThat(categories).hasSize(CATEGORY_COUNT);
+        assertThat(articleCount).isEqualTo(CATEGORY_COUNT * ARTICLES_PER_CATEGORY);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+
+    }
+
+}